@@ -1,10 +1,12 @@
 package com.capbank.bankaccount_service.core.application.ports.in;
 
+import com.capbank.bankaccount_service.core.domain.model.BalanceLeg;
 import com.capbank.bankaccount_service.core.domain.model.BankAccount;
 import com.capbank.bankaccount_service.infra.dto.BankAccountResponseDTO;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface BankAccountUseCase {
@@ -16,6 +18,9 @@ public interface BankAccountUseCase {
     BankAccountResponseDTO findByAccountNumber(String accountNumber);
     BankAccountResponseDTO findByUserId(String userId);
     BigDecimal getBalance(String accountNumber);
+    Map<UUID, BigDecimal> getBalances(List<UUID> ids);
     BankAccountResponseDTO updateBalance(String accountNumber, BigDecimal newBalance);
+    BigDecimal applyBalanceDelta(UUID id, BigDecimal delta);
+    List<BigDecimal> applyBalanceDeltas(List<BalanceLeg> legs);
     BankAccountResponseDTO updateStatus(String accountNumber, String status);
 }
@@ -1,8 +1,12 @@
 package com.capbank.bankaccount_service.core.application.ports.out;
 
+import com.capbank.bankaccount_service.core.domain.enums.AccountStatus;
 import com.capbank.bankaccount_service.core.domain.model.BankAccount;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +17,9 @@ public interface BankAccountRepositoryPort {
     List<BankAccount> findAll();
     Optional<BankAccount> findByAccountNumber(String accountNumber);
     Optional<BankAccount> findByUserId(String userId);
+    Map<UUID, BigDecimal> findBalancesByIds(Collection<UUID> ids);
+    Optional<BigDecimal> applyBalanceDelta(UUID id, BigDecimal delta);
+    boolean updateBalance(UUID id, long expectedVersion, BigDecimal balance);
+    boolean updateStatus(UUID id, long expectedVersion, AccountStatus status);
+    boolean existsById(UUID id);
 }
@@ -3,29 +3,45 @@ package com.capbank.bankaccount_service.core.application.service;
 import com.capbank.bankaccount_service.core.application.ports.in.BankAccountUseCase;
 import com.capbank.bankaccount_service.core.application.ports.out.BankAccountRepositoryPort;
 import com.capbank.bankaccount_service.core.domain.enums.AccountStatus;
+import com.capbank.bankaccount_service.core.domain.model.BalanceLeg;
 import com.capbank.bankaccount_service.core.domain.model.BankAccount;
 import com.capbank.bankaccount_service.infra.dto.BankAccountResponseDTO;
 import com.capbank.bankaccount_service.infra.exception.BankAccountNotFoundException;
+import com.capbank.bankaccount_service.infra.exception.InsufficientBalanceException;
 import com.capbank.bankaccount_service.infra.mapper.BankAccountResponseMapper;
+import com.capbank.bankaccount_service.infra.retry.OptimisticLockRetry;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @Service
 public class BankAccountServiceImpl implements BankAccountUseCase {
 
+    static final int MAX_BALANCE_LOOKUP = 1000;
+
     private final BankAccountRepositoryPort bankAccountRepository;
     private final BankAccountResponseMapper bankAccountResponseMapper;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     public BankAccountServiceImpl(
             BankAccountRepositoryPort bankAccountRepository,
-            BankAccountResponseMapper bankAccountResponseMapper
+            BankAccountResponseMapper bankAccountResponseMapper,
+            OptimisticLockRetry optimisticLockRetry
     ) {
         this.bankAccountRepository = bankAccountRepository;
         this.bankAccountResponseMapper = bankAccountResponseMapper;
+        this.optimisticLockRetry = optimisticLockRetry;
     }
 
     @Override
@@ -65,32 +81,119 @@ public class BankAccountServiceImpl implements BankAccountUseCase {
                 .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
     }
 
+    /**
+     * Consulta em lote usada pela conciliação do transaction-service: uma única
+     * leitura para até {@value #MAX_BALANCE_LOOKUP} contas. Contas inexistentes
+     * ficam fora do resultado em vez de falhar o lote inteiro.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, BigDecimal> getBalances(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma conta");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ID da conta é obrigatório");
+        }
+        LinkedHashSet<UUID> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_BALANCE_LOOKUP) {
+            throw new IllegalArgumentException("Máximo de " + MAX_BALANCE_LOOKUP + " contas por consulta");
+        }
+        return bankAccountRepository.findBalancesByIds(distinctIds);
+    }
+
+    /**
+     * Grava o saldo apenas se a conta não mudou desde a leitura; em caso de
+     * conflito a conta é relida e a escrita repetida.
+     */
     public BankAccountResponseDTO updateBalance(String accountNumber, BigDecimal newBalance) {
-        BankAccount account = bankAccountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
-        account.setBalance(newBalance);
-        bankAccountRepository.save(account);
-        return bankAccountResponseMapper.toResponse(account);
+        return optimisticLockRetry.execute("updateBalance", () -> {
+            BankAccount account = bankAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
+            if (!bankAccountRepository.updateBalance(account.getId(), currentVersion(account), newBalance)) {
+                throw conflict(account);
+            }
+            account.setBalance(newBalance);
+            account.setVersion(currentVersion(account) + 1);
+            return bankAccountResponseMapper.toResponse(account);
+        });
+    }
+
+    @Override
+    @Transactional
+    public BigDecimal applyBalanceDelta(UUID id, BigDecimal delta) {
+        if (delta == null) {
+            throw new IllegalArgumentException("Delta do saldo é obrigatório");
+        }
+        return bankAccountRepository.applyBalanceDelta(id, delta)
+                .orElseThrow(() -> bankAccountRepository.existsById(id)
+                        ? new InsufficientBalanceException("Saldo insuficiente")
+                        : new BankAccountNotFoundException("Conta bancária não encontrada"));
+    }
+
+    /**
+     * Aplica todas as pernas em uma única transação. As contas são atualizadas
+     * (e portanto bloqueadas) em ordem crescente de ID, evitando deadlocks entre
+     * lotes concorrentes; os saldos resultantes seguem a ordem da requisição.
+     */
+    @Override
+    @Transactional
+    public List<BigDecimal> applyBalanceDeltas(List<BalanceLeg> legs) {
+        if (legs == null || legs.isEmpty()) {
+            throw new IllegalArgumentException("O lote deve conter ao menos uma perna");
+        }
+
+        BigDecimal[] balances = new BigDecimal[legs.size()];
+        IntStream.range(0, legs.size())
+                .boxed()
+                .sorted(Comparator.comparing(index -> legs.get(index).accountId()))
+                .forEach(index -> {
+                    BalanceLeg leg = legs.get(index);
+                    balances[index] = applyBalanceDelta(leg.accountId(), leg.delta());
+                });
+        return Arrays.asList(balances);
     }
 
     public BankAccountResponseDTO updateStatus(String accountNumber, String status) {
-        BankAccount account = bankAccountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
-        account.setStatus(AccountStatus.valueOf(status.toUpperCase()));
-        bankAccountRepository.save(account);
-        return bankAccountResponseMapper.toResponse(account);
+        AccountStatus newStatus = AccountStatus.valueOf(status.toUpperCase());
+        return optimisticLockRetry.execute("updateStatus", () -> {
+            BankAccount account = bankAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
+            if (!bankAccountRepository.updateStatus(account.getId(), currentVersion(account), newStatus)) {
+                throw conflict(account);
+            }
+            account.setStatus(newStatus);
+            account.setVersion(currentVersion(account) + 1);
+            return bankAccountResponseMapper.toResponse(account);
+        });
     }
 
+    /**
+     * A versão lida acompanha a entidade até o save, então uma escrita
+     * concorrente entre a leitura e a gravação gera conflito e nova tentativa.
+     */
     @Override
     public BankAccount update(UUID id, BankAccount account) {
-        BankAccount existing = bankAccountRepository.findById(id)
-                .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
-        account.setId(existing.getId());
-        return bankAccountRepository.save(account);
+        return optimisticLockRetry.execute("update", () -> {
+            BankAccount existing = bankAccountRepository.findById(id)
+                    .orElseThrow(() -> new BankAccountNotFoundException("Conta bancária não encontrada"));
+            account.setId(existing.getId());
+            account.setVersion(existing.getVersion());
+            return bankAccountRepository.save(account);
+        });
     }
 
     @Override
     public void delete(UUID id) {
         bankAccountRepository.deleteById(id);
     }
+
+    private static long currentVersion(BankAccount account) {
+        return account.getVersion() != null ? account.getVersion() : 0L;
+    }
+
+    private static OptimisticLockingFailureException conflict(BankAccount account) {
+        return new OptimisticLockingFailureException(
+                "Versão da conta " + account.getId() + " alterada concorrentemente");
+    }
 }
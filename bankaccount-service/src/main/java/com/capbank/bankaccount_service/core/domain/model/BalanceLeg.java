@@ -0,0 +1,16 @@
+package com.capbank.bankaccount_service.core.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record BalanceLeg(UUID accountId, BigDecimal delta) {
+
+    public BalanceLeg {
+        if (accountId == null) {
+            throw new IllegalArgumentException("ID da conta é obrigatório");
+        }
+        if (delta == null) {
+            throw new IllegalArgumentException("Delta do saldo é obrigatório");
+        }
+    }
+}
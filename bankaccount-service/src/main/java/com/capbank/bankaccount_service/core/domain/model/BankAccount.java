@@ -18,6 +18,7 @@ public class BankAccount {
     private UUID userId;
     private AccountStatus status;
     private LocalDateTime createdAt;
+    private Long version;
 
     public BankAccount() {}
 
@@ -85,4 +86,11 @@ public class BankAccount {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -1,7 +1,13 @@
 package com.capbank.bankaccount_service.infra.controller;
 
 import com.capbank.bankaccount_service.core.application.ports.in.BankAccountUseCase;
+import com.capbank.bankaccount_service.core.domain.model.BalanceLeg;
 import com.capbank.bankaccount_service.core.domain.model.BankAccount;
+import com.capbank.bankaccount_service.infra.dto.AccountBalanceDTO;
+import com.capbank.bankaccount_service.infra.dto.BalanceBatchRequestDTO;
+import com.capbank.bankaccount_service.infra.dto.BalanceBulkRequestDTO;
+import com.capbank.bankaccount_service.infra.dto.BalanceDeltaRequestDTO;
+import com.capbank.bankaccount_service.infra.dto.BalanceDeltaResponseDTO;
 import com.capbank.bankaccount_service.infra.dto.BankAccountRequestDTO;
 import com.capbank.bankaccount_service.infra.dto.BankAccountResponseDTO;
 import com.capbank.bankaccount_service.infra.mapper.BankAccountRequestMapper;
@@ -17,7 +23,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -142,6 +150,29 @@ public class BankAccountController {
         return ResponseEntity.ok(bankAccountUseCase.getBalance(accountNumber));
     }
 
+    @Operation(
+            summary = "Consultar saldos em lote",
+            description = "Retorna o saldo atual de até 1000 contas, identificadas pelo ID, em uma única consulta. "
+                    + "Contas inexistentes são omitidas da resposta.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs das contas a consultar",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BalanceBulkRequestDTO.class))
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saldos obtidos com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    @PostMapping("/balance/bulk")
+    public ResponseEntity<List<AccountBalanceDTO>> getBalances(@RequestBody BalanceBulkRequestDTO request) {
+        Map<UUID, BigDecimal> balances = bankAccountUseCase.getBalances(
+                request.getAccountIds() == null ? List.of() : request.getAccountIds());
+        List<AccountBalanceDTO> response = new ArrayList<>(balances.size());
+        balances.forEach((id, balance) -> response.add(new AccountBalanceDTO(id, balance)));
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Atualizar saldo da conta",
             description = "Atualiza o saldo de uma conta bancária existente."
@@ -161,6 +192,65 @@ public class BankAccountController {
         return ResponseEntity.ok(bankAccountUseCase.updateBalance(accountNumber, newBalance));
     }
 
+    @Operation(
+            summary = "Aplicar variação de saldo",
+            description = "Soma o delta (positivo ou negativo) ao saldo da conta em uma única operação atômica "
+                    + "e retorna os saldos anterior e resultante. A operação é rejeitada se o saldo ficar negativo.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Variação a ser aplicada ao saldo",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BalanceDeltaRequestDTO.class))
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saldo atualizado com sucesso",
+                    content = @Content(schema = @Schema(implementation = BalanceDeltaResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Delta não informado"),
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada"),
+            @ApiResponse(responseCode = "422", description = "Saldo insuficiente")
+    })
+    @PostMapping("/{id}/balance/delta")
+    public ResponseEntity<BalanceDeltaResponseDTO> applyBalanceDelta(
+            @Parameter(description = "ID da conta bancária", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID id,
+            @RequestBody BalanceDeltaRequestDTO request
+    ) {
+        BigDecimal balance = bankAccountUseCase.applyBalanceDelta(id, request.getDelta());
+        return ResponseEntity.ok(new BalanceDeltaResponseDTO(id, balance.subtract(request.getDelta()), balance));
+    }
+
+    @Operation(
+            summary = "Aplicar variações de saldo em lote",
+            description = "Aplica uma lista de pernas (conta, delta) em uma única transação. "
+                    + "Se qualquer perna falhar, nenhuma alteração é persistida. "
+                    + "Os saldos resultantes são retornados na mesma ordem das pernas.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Pernas a serem aplicadas",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BalanceBatchRequestDTO.class))
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Saldos atualizados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou perna inválida"),
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada"),
+            @ApiResponse(responseCode = "422", description = "Saldo insuficiente")
+    })
+    @PostMapping("/balance/batch")
+    public ResponseEntity<List<BalanceDeltaResponseDTO>> applyBalanceDeltas(@RequestBody BalanceBatchRequestDTO request) {
+        List<BalanceLeg> legs = request.getLegs() == null ? List.of() : request.getLegs().stream()
+                .map(leg -> new BalanceLeg(leg.getAccountId(), leg.getDelta()))
+                .toList();
+        List<BigDecimal> balances = bankAccountUseCase.applyBalanceDeltas(legs);
+        List<BalanceDeltaResponseDTO> response = new ArrayList<>(legs.size());
+        for (int i = 0; i < legs.size(); i++) {
+            BalanceLeg leg = legs.get(i);
+            BigDecimal balance = balances.get(i);
+            response.add(new BalanceDeltaResponseDTO(leg.accountId(), balance.subtract(leg.delta()), balance));
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Atualizar status da conta",
             description = "Altera o status de uma conta bancária (ex: ACTIVE, BLOCKED, CLOSED)."
@@ -0,0 +1,33 @@
+package com.capbank.bankaccount_service.infra.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class AccountBalanceDTO {
+    private UUID id;
+    private BigDecimal balance;
+
+    public AccountBalanceDTO() {
+    }
+
+    public AccountBalanceDTO(UUID id, BigDecimal balance) {
+        this.id = id;
+        this.balance = balance;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,53 @@
+package com.capbank.bankaccount_service.infra.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class BalanceBatchRequestDTO {
+    private List<Leg> legs;
+
+    public BalanceBatchRequestDTO() {
+    }
+
+    public BalanceBatchRequestDTO(List<Leg> legs) {
+        this.legs = legs;
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<Leg> legs) {
+        this.legs = legs;
+    }
+
+    public static class Leg {
+        private UUID accountId;
+        private BigDecimal delta;
+
+        public Leg() {
+        }
+
+        public Leg(UUID accountId, BigDecimal delta) {
+            this.accountId = accountId;
+            this.delta = delta;
+        }
+
+        public UUID getAccountId() {
+            return accountId;
+        }
+
+        public void setAccountId(UUID accountId) {
+            this.accountId = accountId;
+        }
+
+        public BigDecimal getDelta() {
+            return delta;
+        }
+
+        public void setDelta(BigDecimal delta) {
+            this.delta = delta;
+        }
+    }
+}
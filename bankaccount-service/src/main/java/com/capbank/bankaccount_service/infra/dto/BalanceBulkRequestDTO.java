@@ -0,0 +1,23 @@
+package com.capbank.bankaccount_service.infra.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BalanceBulkRequestDTO {
+    private List<UUID> accountIds;
+
+    public BalanceBulkRequestDTO() {
+    }
+
+    public BalanceBulkRequestDTO(List<UUID> accountIds) {
+        this.accountIds = accountIds;
+    }
+
+    public List<UUID> getAccountIds() {
+        return accountIds;
+    }
+
+    public void setAccountIds(List<UUID> accountIds) {
+        this.accountIds = accountIds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.capbank.bankaccount_service.infra.dto;
+
+import java.math.BigDecimal;
+
+public class BalanceDeltaRequestDTO {
+    private BigDecimal delta;
+
+    public BalanceDeltaRequestDTO() {
+    }
+
+    public BalanceDeltaRequestDTO(BigDecimal delta) {
+        this.delta = delta;
+    }
+
+    public BigDecimal getDelta() {
+        return delta;
+    }
+
+    public void setDelta(BigDecimal delta) {
+        this.delta = delta;
+    }
+}
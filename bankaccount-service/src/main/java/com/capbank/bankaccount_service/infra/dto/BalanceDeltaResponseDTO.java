@@ -0,0 +1,43 @@
+package com.capbank.bankaccount_service.infra.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class BalanceDeltaResponseDTO {
+    private UUID id;
+    private BigDecimal balanceBefore;
+    private BigDecimal balance;
+
+    public BalanceDeltaResponseDTO() {
+    }
+
+    public BalanceDeltaResponseDTO(UUID id, BigDecimal balanceBefore, BigDecimal balance) {
+        this.id = id;
+        this.balanceBefore = balanceBefore;
+        this.balance = balance;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public BigDecimal getBalanceBefore() {
+        return balanceBefore;
+    }
+
+    public void setBalanceBefore(BigDecimal balanceBefore) {
+        this.balanceBefore = balanceBefore;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
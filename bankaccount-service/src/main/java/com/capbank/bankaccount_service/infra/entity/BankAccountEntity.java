@@ -35,6 +35,11 @@ public class BankAccountEntity {
 
     private LocalDateTime createdAt;
 
+    // Controle de concorrência otimista; o default preenche as linhas já existentes
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     public BankAccountEntity() {}
 
     public BankAccountEntity(UUID id, String accountNumber, String agency, BigDecimal balance, AccountType accountType, UUID userId, AccountStatus status, LocalDateTime createdAt) {
@@ -101,4 +106,11 @@ public class BankAccountEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,7 @@
+package com.capbank.bankaccount_service.infra.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
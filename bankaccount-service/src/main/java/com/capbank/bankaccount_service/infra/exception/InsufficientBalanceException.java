@@ -0,0 +1,7 @@
+package com.capbank.bankaccount_service.infra.exception;
+
+public class InsufficientBalanceException extends RuntimeException {
+    public InsufficientBalanceException(String message) {
+        super(message);
+    }
+}
@@ -10,5 +10,6 @@ public interface BankAccountRequestMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "status", ignore = true)
+    @Mapping(target = "version", ignore = true)
     BankAccount toDomain(BankAccountRequestDTO dto);
 }
\ No newline at end of file
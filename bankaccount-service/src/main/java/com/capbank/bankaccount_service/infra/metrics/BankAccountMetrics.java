@@ -16,4 +16,16 @@ public class BankAccountMetrics {
         registry.counter("accounts.created.total", "type", "creation").increment();
     }
 
+    public void incrementOptimisticConflict(String operation) {
+        registry.counter("accounts.optimistic.conflicts", "operation", operation).increment();
+    }
+
+    public void incrementOptimisticRetry(String operation) {
+        registry.counter("accounts.optimistic.retries", "operation", operation).increment();
+    }
+
+    public void incrementOptimisticRetryExhausted(String operation) {
+        registry.counter("accounts.optimistic.exhausted", "operation", operation).increment();
+    }
+
 }
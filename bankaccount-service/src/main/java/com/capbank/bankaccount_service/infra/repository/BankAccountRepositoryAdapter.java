@@ -1,13 +1,18 @@
 package com.capbank.bankaccount_service.infra.repository;
 
 import com.capbank.bankaccount_service.core.application.ports.out.BankAccountRepositoryPort;
+import com.capbank.bankaccount_service.core.domain.enums.AccountStatus;
 import com.capbank.bankaccount_service.core.domain.model.BankAccount;
 import com.capbank.bankaccount_service.infra.entity.BankAccountEntity;
 import com.capbank.bankaccount_service.infra.mapper.BankAccountMapper;
 import com.capbank.bankaccount_service.infra.repository.jpa.JpaBankAccountRepository;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -56,6 +61,35 @@ public class BankAccountRepositoryAdapter implements BankAccountRepositoryPort {
                 .map(bankAccountMapper::toDomain);
     }
 
+    @Override
+    public Map<UUID, BigDecimal> findBalancesByIds(Collection<UUID> ids) {
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        for (JpaBankAccountRepository.AccountBalanceView view : jpaBankAccountRepository.findBalancesByIdIn(ids)) {
+            balances.put(view.getId(), view.getBalance());
+        }
+        return balances;
+    }
+
+    @Override
+    public Optional<BigDecimal> applyBalanceDelta(UUID id, BigDecimal delta) {
+        return jpaBankAccountRepository.applyBalanceDelta(id, delta);
+    }
+
+    @Override
+    public boolean updateBalance(UUID id, long expectedVersion, BigDecimal balance) {
+        return jpaBankAccountRepository.updateBalance(id, expectedVersion, balance) == 1;
+    }
+
+    @Override
+    public boolean updateStatus(UUID id, long expectedVersion, AccountStatus status) {
+        return jpaBankAccountRepository.updateStatus(id, expectedVersion, status) == 1;
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return jpaBankAccountRepository.existsById(id);
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaBankAccountRepository.deleteById(id);
@@ -1,12 +1,73 @@
 package com.capbank.bankaccount_service.infra.repository.jpa;
 
+import com.capbank.bankaccount_service.core.domain.enums.AccountStatus;
 import com.capbank.bankaccount_service.infra.entity.BankAccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaBankAccountRepository extends JpaRepository<BankAccountEntity, UUID> {
     Optional<BankAccountEntity> findByAccountNumber(String accountNumber);
     Optional<BankAccountEntity> findByUserId(UUID userId);
+
+    /**
+     * Lê apenas id e saldo das contas informadas, sem carregar as entidades.
+     * IDs sem conta correspondente não aparecem no resultado.
+     */
+    @Query("SELECT a.id AS id, a.balance AS balance FROM BankAccountEntity a WHERE a.id IN :ids")
+    List<AccountBalanceView> findBalancesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    interface AccountBalanceView {
+        UUID getId();
+        BigDecimal getBalance();
+    }
+
+    /**
+     * Aplica o delta ao saldo em um único comando, sem leitura prévia.
+     * Retorna vazio quando a conta não existe ou quando o saldo resultante seria negativo.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE bank_accounts
+               SET balance = balance + :delta,
+                   version = version + 1
+             WHERE id = :id
+               AND balance + :delta >= 0
+            RETURNING balance
+            """, nativeQuery = true)
+    Optional<BigDecimal> applyBalanceDelta(@Param("id") UUID id, @Param("delta") BigDecimal delta);
+
+    /**
+     * Atualizações condicionais: só aplicam se a versão lida ainda for a atual.
+     * Retornam 0 quando outra escrita venceu (ou a conta não existe).
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE BankAccountEntity a
+               SET a.balance = :balance, a.version = a.version + 1
+             WHERE a.id = :id AND a.version = :expectedVersion
+            """)
+    int updateBalance(@Param("id") UUID id,
+                      @Param("expectedVersion") long expectedVersion,
+                      @Param("balance") BigDecimal balance);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE BankAccountEntity a
+               SET a.status = :status, a.version = a.version + 1
+             WHERE a.id = :id AND a.version = :expectedVersion
+            """)
+    int updateStatus(@Param("id") UUID id,
+                     @Param("expectedVersion") long expectedVersion,
+                     @Param("status") AccountStatus status);
 }
@@ -0,0 +1,77 @@
+package com.capbank.bankaccount_service.infra.retry;
+
+import com.capbank.bankaccount_service.infra.exception.ConcurrentUpdateException;
+import com.capbank.bankaccount_service.infra.metrics.BankAccountMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Reexecuta operações de leitura-modificação-escrita quando a versão da conta
+ * mudou entre a leitura e a escrita. Cada tentativa deve reler a conta; entre
+ * as tentativas aguarda um backoff exponencial com jitter total, para que
+ * escritores concorrentes não colidam de novo no mesmo instante.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+    private final BankAccountMetrics metrics;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public OptimisticLockRetry(
+            BankAccountMetrics metrics,
+            @Value("${app.optimistic-lock.max-attempts:5}") int maxAttempts,
+            @Value("${app.optimistic-lock.initial-backoff:5ms}") Duration initialBackoff,
+            @Value("${app.optimistic-lock.max-backoff:100ms}") Duration maxBackoff
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Número máximo de tentativas deve ser ao menos 1");
+        }
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                metrics.incrementOptimisticConflict(operation);
+                if (attempt >= maxAttempts) {
+                    metrics.incrementOptimisticRetryExhausted(operation);
+                    logger.warn("Optimistic lock retries exhausted for {} after {} attempts", operation, attempt);
+                    throw new ConcurrentUpdateException(
+                            "Conta bancária alterada concorrentemente, tente novamente", e);
+                }
+                metrics.incrementOptimisticRetry(operation);
+                logger.debug("Optimistic lock conflict on {} (attempt {}), retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Retentativa interrompida", e);
+        }
+    }
+}
@@ -3,22 +3,35 @@ package com.capbank.bankaccount_service;
 import com.capbank.bankaccount_service.core.application.ports.out.BankAccountRepositoryPort;
 import com.capbank.bankaccount_service.core.application.service.BankAccountServiceImpl;
 import com.capbank.bankaccount_service.core.domain.enums.AccountStatus;
+import com.capbank.bankaccount_service.core.domain.model.BalanceLeg;
 import com.capbank.bankaccount_service.core.domain.model.BankAccount;
 import com.capbank.bankaccount_service.infra.dto.BankAccountResponseDTO;
 import com.capbank.bankaccount_service.infra.exception.BankAccountNotFoundException;
+import com.capbank.bankaccount_service.infra.exception.ConcurrentUpdateException;
+import com.capbank.bankaccount_service.infra.exception.InsufficientBalanceException;
 import com.capbank.bankaccount_service.infra.mapper.BankAccountMapper;
 import com.capbank.bankaccount_service.infra.mapper.BankAccountResponseMapper;
+import com.capbank.bankaccount_service.infra.metrics.BankAccountMetrics;
+import com.capbank.bankaccount_service.infra.retry.OptimisticLockRetry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,6 +45,12 @@ public class BankAccountUseCaseTest {
 
     @Mock private BankAccountResponseMapper bankAccountResponseMapper;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OptimisticLockRetry optimisticLockRetry =
+            new OptimisticLockRetry(new BankAccountMetrics(meterRegistry), 3, Duration.ZERO, Duration.ZERO);
+
     @InjectMocks
     private BankAccountServiceImpl bankAccountService;
 
@@ -84,21 +103,65 @@ public class BankAccountUseCaseTest {
     void shouldUpdateBalanceSuccessfully() {
         String accountNumber = "12345";
         BankAccount account = new BankAccount();
+        account.setId(UUID.randomUUID());
         account.setAccountNumber(accountNumber);
         account.setBalance(BigDecimal.valueOf(100));
+        account.setVersion(3L);
 
         BankAccountResponseDTO responseDTO = new BankAccountResponseDTO();
         responseDTO.setAccountNumber(accountNumber);
         responseDTO.setBalance(BigDecimal.valueOf(200));
 
         when(bankAccountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
-        when(bankAccountRepository.save(account)).thenReturn(account);
+        when(bankAccountRepository.updateBalance(account.getId(), 3L, BigDecimal.valueOf(200))).thenReturn(true);
         when(bankAccountResponseMapper.toResponse(account)).thenReturn(responseDTO);
 
         BankAccountResponseDTO result = bankAccountService.updateBalance(accountNumber, BigDecimal.valueOf(200));
 
         assertEquals(BigDecimal.valueOf(200), result.getBalance());
-        verify(bankAccountRepository).save(account);
+        assertEquals(4L, account.getVersion());
+        verify(bankAccountRepository, never()).save(any(BankAccount.class));
+    }
+
+    @Test
+    @DisplayName("Deve reler a conta e repetir a escrita quando a versão mudou concorrentemente")
+    void shouldRetryUpdateBalanceOnVersionConflict() {
+        String accountNumber = "12345";
+        UUID id = UUID.randomUUID();
+        BankAccount stale = new BankAccount();
+        stale.setId(id);
+        stale.setVersion(1L);
+        BankAccount fresh = new BankAccount();
+        fresh.setId(id);
+        fresh.setVersion(2L);
+
+        when(bankAccountRepository.findByAccountNumber(accountNumber))
+                .thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(bankAccountRepository.updateBalance(id, 1L, BigDecimal.TEN)).thenReturn(false);
+        when(bankAccountRepository.updateBalance(id, 2L, BigDecimal.TEN)).thenReturn(true);
+        when(bankAccountResponseMapper.toResponse(fresh)).thenReturn(new BankAccountResponseDTO());
+
+        bankAccountService.updateBalance(accountNumber, BigDecimal.TEN);
+
+        verify(bankAccountRepository, times(2)).findByAccountNumber(accountNumber);
+        assertEquals(1.0, meterRegistry.counter("accounts.optimistic.conflicts", "operation", "updateBalance").count());
+        assertEquals(1.0, meterRegistry.counter("accounts.optimistic.retries", "operation", "updateBalance").count());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção de conflito quando as tentativas se esgotarem")
+    void shouldThrowWhenOptimisticRetriesAreExhausted() {
+        String accountNumber = "12345";
+        BankAccount account = new BankAccount();
+        account.setId(UUID.randomUUID());
+        account.setVersion(1L);
+
+        when(bankAccountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+        when(bankAccountRepository.updateBalance(account.getId(), 1L, BigDecimal.TEN)).thenReturn(false);
+
+        assertThrows(ConcurrentUpdateException.class,
+                () -> bankAccountService.updateBalance(accountNumber, BigDecimal.TEN));
+        verify(bankAccountRepository, times(3)).updateBalance(account.getId(), 1L, BigDecimal.TEN);
     }
 
     @Test
@@ -108,6 +171,92 @@ public class BankAccountUseCaseTest {
         assertThrows(BankAccountNotFoundException.class, () -> bankAccountService.updateBalance("999", BigDecimal.TEN));
     }
 
+    @Test
+    @DisplayName("Deve aplicar delta ao saldo e retornar o saldo resultante")
+    void shouldApplyBalanceDeltaSuccessfully() {
+        UUID id = UUID.randomUUID();
+        when(bankAccountRepository.applyBalanceDelta(id, new BigDecimal("-50.00")))
+                .thenReturn(Optional.of(new BigDecimal("150.00")));
+
+        BigDecimal result = bankAccountService.applyBalanceDelta(id, new BigDecimal("-50.00"));
+
+        assertEquals(new BigDecimal("150.00"), result);
+        verify(bankAccountRepository, never()).findById(id);
+        verify(bankAccountRepository, never()).save(any(BankAccount.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção de saldo insuficiente quando o delta deixaria o saldo negativo")
+    void shouldThrowWhenDeltaLeavesNegativeBalance() {
+        UUID id = UUID.randomUUID();
+        when(bankAccountRepository.applyBalanceDelta(id, new BigDecimal("-500.00"))).thenReturn(Optional.empty());
+        when(bankAccountRepository.existsById(id)).thenReturn(true);
+
+        assertThrows(InsufficientBalanceException.class,
+                () -> bankAccountService.applyBalanceDelta(id, new BigDecimal("-500.00")));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando conta não existe para aplicação de delta")
+    void shouldThrowWhenAccountNotFoundOnApplyDelta() {
+        UUID id = UUID.randomUUID();
+        when(bankAccountRepository.applyBalanceDelta(id, BigDecimal.TEN)).thenReturn(Optional.empty());
+        when(bankAccountRepository.existsById(id)).thenReturn(false);
+
+        assertThrows(BankAccountNotFoundException.class, () -> bankAccountService.applyBalanceDelta(id, BigDecimal.TEN));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar lote em ordem crescente de ID e retornar saldos na ordem da requisição")
+    void shouldApplyBalanceDeltasInSortedOrder() {
+        UUID lower = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID higher = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        when(bankAccountRepository.applyBalanceDelta(higher, new BigDecimal("-30.00")))
+                .thenReturn(Optional.of(new BigDecimal("70.00")));
+        when(bankAccountRepository.applyBalanceDelta(lower, new BigDecimal("30.00")))
+                .thenReturn(Optional.of(new BigDecimal("130.00")));
+
+        List<BigDecimal> result = bankAccountService.applyBalanceDeltas(List.of(
+                new BalanceLeg(higher, new BigDecimal("-30.00")),
+                new BalanceLeg(lower, new BigDecimal("30.00"))
+        ));
+
+        assertEquals(List.of(new BigDecimal("70.00"), new BigDecimal("130.00")), result);
+        InOrder inOrder = inOrder(bankAccountRepository);
+        inOrder.verify(bankAccountRepository).applyBalanceDelta(lower, new BigDecimal("30.00"));
+        inOrder.verify(bankAccountRepository).applyBalanceDelta(higher, new BigDecimal("-30.00"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote estiver vazio")
+    void shouldThrowWhenBatchIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> bankAccountService.applyBalanceDeltas(List.of()));
+    }
+
+    @Test
+    @DisplayName("Deve consultar saldos em lote sem repetir IDs duplicados")
+    void shouldGetBalancesForDistinctIds() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(bankAccountRepository.findBalancesByIds(Set.of(first, second)))
+                .thenReturn(Map.of(first, new BigDecimal("10.00")));
+
+        Map<UUID, BigDecimal> result = bankAccountService.getBalances(List.of(first, second, first));
+
+        assertEquals(Map.of(first, new BigDecimal("10.00")), result);
+        verify(bankAccountRepository).findBalancesByIds(Set.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a consulta em lote exceder o limite de contas")
+    void shouldThrowWhenBalanceLookupExceedsLimit() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(1001).toList();
+
+        assertThrows(IllegalArgumentException.class, () -> bankAccountService.getBalances(ids));
+        assertThrows(IllegalArgumentException.class, () -> bankAccountService.getBalances(List.of()));
+        verify(bankAccountRepository, never()).findBalancesByIds(any());
+    }
+
     @Test
     @DisplayName("Deve deletar conta bancária com sucesso")
     void shouldDeleteBankAccount() {
@@ -1,5 +1,6 @@
 package com.capbank.gateway_service.infra.controller;
 
+import com.capbank.gateway_service.infra.filter.LoggingGlobalFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.route.Route;
@@ -30,7 +31,7 @@ public class FallbackController {
                 .orElse("UNKNOWN");
         Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
         String routeId = route != null ? route.getId() : "unknown";
-        String correlationId = exchange.getRequest().getHeaders().getFirst("X-Correlation-Id");
+        String correlationId = LoggingGlobalFilter.requestId(exchange);
         Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
 
         String serviceHint = toServiceHint(routeId);
@@ -50,7 +51,7 @@ public class FallbackController {
         body.put("method", method);
         body.put("path", path);
         body.put("requestId", exchange.getRequest().getId());
-        if (correlationId != null && !correlationId.isBlank()) {
+        if (correlationId != null) {
             body.put("correlationId", correlationId);
         }
         if (cause != null) {
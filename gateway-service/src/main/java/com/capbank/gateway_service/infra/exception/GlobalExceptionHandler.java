@@ -1,5 +1,6 @@
 package com.capbank.gateway_service.infra.exception;
 
+import com.capbank.gateway_service.infra.filter.LoggingGlobalFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -40,8 +41,8 @@ public class GlobalExceptionHandler {
         if (exchange != null && exchange.getRequest() != null) {
             var req = exchange.getRequest();
             map.put("path", req.getPath().value());
-            String corr = req.getHeaders().getFirst("X-Correlation-Id");
-            if (corr != null && !corr.isBlank()) {
+            String corr = LoggingGlobalFilter.requestId(exchange);
+            if (corr != null) {
                 map.put("correlationId", corr);
             }
         }
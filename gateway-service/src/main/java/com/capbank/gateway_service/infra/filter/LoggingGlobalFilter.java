@@ -3,6 +3,7 @@ package com.capbank.gateway_service.infra.filter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
 import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
@@ -20,31 +21,54 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Loga requisição e resposta de cada rota e garante o {@code X-Request-Id}:
+ * reaproveita o do cliente ou gera um, devolve na resposta e repassa ao
+ * serviço de destino. O trace (W3C traceparent) é propagado pelo próprio
+ * gateway; o request id continua como chave de busca para quem só tem a
+ * resposta HTTP em mãos.
+ */
 @Component
 public class LoggingGlobalFilter implements GlobalFilter, Ordered {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingGlobalFilter.class);
 
-    private static final String REQ_ID_ATTR = "LOG_REQUEST_ID";
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_ATTR = "LOG_REQUEST_ID";
     private static final String START_TIME_ATTR = "LOG_START_TIME";
 
+    /**
+     * Request id da troca: o atributo gravado por este filtro (compartilhado
+     * com o forward para o fallback) ou, se o filtro não chegou a rodar, o
+     * cabeçalho enviado pelo cliente.
+     */
+    public static String requestId(ServerWebExchange exchange) {
+        String requestId = exchange.getAttribute(REQUEST_ID_ATTR);
+        if (requestId == null) {
+            requestId = exchange.getRequest().getHeaders().getFirst(REQUEST_ID_HEADER);
+        }
+        return requestId == null || requestId.isBlank() ? null : requestId;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, org.springframework.cloud.gateway.filter.GatewayFilterChain chain) {
         long start = System.currentTimeMillis();
         exchange.getAttributes().put(START_TIME_ATTR, start);
 
-        String correlationId = exchange.getRequest().getHeaders().getFirst("X-Request-Id");
+        String correlationId = exchange.getRequest().getHeaders().getFirst(REQUEST_ID_HEADER);
         if (correlationId == null || correlationId.isBlank()) {
             correlationId = UUID.randomUUID().toString();
         }
-        exchange.getResponse().getHeaders().set("X-Request-Id", correlationId);
-        exchange.getAttributes().put(REQ_ID_ATTR, correlationId);
+        exchange.getResponse().getHeaders().set(REQUEST_ID_HEADER, correlationId);
+        exchange.getAttributes().put(REQUEST_ID_ATTR, correlationId);
 
         logRequest(exchange, correlationId);
 
-        final ServerWebExchange ex = exchange;
         final String cid = correlationId;
-        return chain.filter(exchange)
+        final ServerWebExchange ex = exchange.mutate()
+                .request(request -> request.headers(headers -> headers.set(REQUEST_ID_HEADER, cid)))
+                .build();
+        return chain.filter(ex)
                 .then(Mono.defer(() ->
                         ReactiveSecurityContextHolder.getContext()
                                 .map(SecurityContext::getAuthentication)
@@ -124,8 +148,10 @@ public class LoggingGlobalFilter implements GlobalFilter, Ordered {
 
     private String safe(String v) { return v == null ? "-" : v; }
 
+    // Depois de resolvida a URL de destino (logada na requisição) e antes dos
+    // filtros de roteamento, que enviam os cabeçalhos ao serviço
     @Override
     public int getOrder() {
-        return Ordered.LOWEST_PRECEDENCE;
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
     }
 }
@@ -0,0 +1,7 @@
+-- Consulta gerada pela Specification (OR entre as colunas de conta + sort)
+\set account random_exponential(0, 9999, 8)
+SELECT t.* FROM transactions t
+ WHERE t.source_account_id = md5(:account::text)::uuid
+    OR t.target_account_id = md5(:account::text)::uuid
+ ORDER BY t.transaction_date DESC
+ LIMIT 20;
@@ -0,0 +1,98 @@
+#!/bin/bash
+
+# Benchmark da listagem de transações por conta (GET /api/transaction/account/{id}).
+#
+# Compara, na mesma massa de dados:
+#   before - índices de coluna única + consulta com OR (Specification)
+#   after  - índices compostos da V2 + UNION ALL (findAccountListing)
+#
+# Usa um banco próprio (padrão: db_transaction_bench) para não tocar nos dados
+# reais. Requer psql e pgbench no PATH.
+#
+# Além dos percentis, grava em plans/ o EXPLAIN (ANALYZE, BUFFERS) de cada fase
+# para a conta de maior volume (índice 0) e para uma conta da cauda (9999).
+#
+# Uso: ./run.sh [linhas] [duração_em_segundos]
+#   ROWS padrão 10000000, DURATION padrão 60
+#   Variáveis: PGHOST, PGPORT (5433 no docker-compose), PGUSER, PGPASSWORD,
+#              BENCH_DB, CLIENTS, THREADS, SKIP_SEED=1 para reaproveitar a massa
+
+set -euo pipefail
+
+ROWS="${1:-10000000}"
+DURATION="${2:-60}"
+BENCH_DB="${BENCH_DB:-db_transaction_bench}"
+CLIENTS="${CLIENTS:-16}"
+THREADS="${THREADS:-4}"
+
+export PGHOST="${PGHOST:-localhost}"
+export PGPORT="${PGPORT:-5433}"
+export PGUSER="${PGUSER:-postgres}"
+export PGPASSWORD="${PGPASSWORD:-postgres}"
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+MIGRATIONS="$DIR/../../../transaction-service/src/main/resources/db/migration"
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+
+psql_bench() {
+  psql -v ON_ERROR_STOP=1 -q -d "$BENCH_DB" "$@"
+}
+
+if ! psql -tAc "SELECT 1 FROM pg_database WHERE datname = '$BENCH_DB'" postgres | grep -q 1; then
+  psql -q -c "CREATE DATABASE $BENCH_DB" postgres
+fi
+
+psql_bench -f "$MIGRATIONS/V1__baseline_schema.sql"
+
+if [ "${SKIP_SEED:-0}" != "1" ]; then
+  echo "🌱 Gerando $ROWS transações..."
+  psql_bench -v rows="$ROWS" -f "$DIR/seed.sql"
+fi
+
+# Imprime p50/p95/p99/max (ms) a partir do log por transação do pgbench
+percentiles() {
+  cat "$WORK"/pgbench_log.* | awk '{print $3}' | sort -n | awk '
+    { v[NR] = $1 }
+    END {
+      printf "%-8s n=%-8d p50=%8.2fms p95=%8.2fms p99=%8.2fms max=%8.2fms\n", label, NR,
+        v[int(NR * 0.50)] / 1000, v[int(NR * 0.95)] / 1000, v[int(NR * 0.99)] / 1000, v[NR] / 1000
+    }' label="$1"
+}
+
+# EXPLAIN da mesma consulta do pgbench, com a conta fixa no lugar do sorteio
+explain_phase() {
+  local label="$1" script="$2" account
+  mkdir -p "$DIR/plans"
+  for account in 0 9999; do
+    { echo "EXPLAIN (ANALYZE, BUFFERS)"; grep -v '^\\set' "$DIR/$script"; } \
+      | psql_bench -v account="$account" > "$DIR/plans/$label-account-$account.txt"
+  done
+}
+
+run_phase() {
+  local label="$1" script="$2"
+  rm -f "$WORK"/pgbench_log.*
+  psql_bench -c "VACUUM ANALYZE transactions" >/dev/null
+  (cd "$WORK" && pgbench -n -l -c "$CLIENTS" -j "$THREADS" -T "$DURATION" -f "$DIR/$script" "$BENCH_DB" >/dev/null)
+  percentiles "$label"
+  explain_phase "$label" "$script"
+}
+
+echo "⏱️  before: índices de coluna única + OR"
+psql_bench <<'SQL'
+DROP INDEX IF EXISTS idx_transactions_source_account_date;
+DROP INDEX IF EXISTS idx_transactions_target_account_date;
+CREATE INDEX IF NOT EXISTS idx_source_account ON transactions (source_account_id);
+CREATE INDEX IF NOT EXISTS idx_target_account ON transactions (target_account_id);
+SQL
+BEFORE="$(run_phase before or_query.sql)"
+
+echo "⏱️  after: índices compostos (V2) + UNION ALL"
+psql_bench -f "$MIGRATIONS/V2__account_listing_composite_indexes.sql"
+AFTER="$(run_phase after union_query.sql)"
+
+echo ""
+echo "Linhas: $ROWS | clientes: $CLIENTS | duração: ${DURATION}s"
+echo "$BEFORE"
+echo "$AFTER"
@@ -0,0 +1,23 @@
+-- 10M transações distribuídas entre 10k contas com cauda longa: poucas contas
+-- (as de menor índice) concentram a maior parte do volume, como os lojistas.
+-- As contas são derivadas de md5(n)::uuid para que os scripts do pgbench
+-- consigam sortear a mesma conta sem consultar a tabela.
+
+TRUNCATE transactions;
+
+INSERT INTO transactions (id, source_account_id, target_account_id, transaction_type, amount,
+                          description, transaction_date, status, created_at)
+SELECT gen_random_uuid(),
+       CASE WHEN kind = 0 THEN NULL ELSE md5(floor(10000 * power(random(), 4))::text)::uuid END,
+       CASE WHEN kind = 1 THEN NULL ELSE md5(floor(10000 * power(random(), 4))::text)::uuid END,
+       CASE kind WHEN 0 THEN 'DEPOSIT' WHEN 1 THEN 'WITHDRAWAL' ELSE 'TRANSFER' END,
+       round((random() * 1000)::numeric, 2),
+       'benchmark',
+       ts,
+       'SUCCESS',
+       ts
+  FROM (SELECT g % 3 AS kind,
+               timestamp '2023-01-01' + random() * interval '730 days' AS ts
+          FROM generate_series(1, :rows) g) s;
+
+ANALYZE transactions;
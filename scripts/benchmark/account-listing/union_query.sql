@@ -0,0 +1,20 @@
+-- Consulta de TransactionJpaRepository.findAccountListing (primeira página, sem filtros)
+\set account random_exponential(0, 9999, 8)
+SELECT u.* FROM (
+    (SELECT t.* FROM transactions t
+      WHERE t.source_account_id = md5(:account::text)::uuid
+        AND (t.transaction_date, t.id) < (timestamp '9999-12-31 23:59:59', 'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid)
+        AND t.transaction_date BETWEEN timestamp '1900-01-01' AND timestamp '9999-12-31 23:59:59'
+      ORDER BY t.transaction_date DESC, t.id DESC
+      LIMIT 21)
+    UNION ALL
+    (SELECT t.* FROM transactions t
+      WHERE t.target_account_id = md5(:account::text)::uuid
+        AND t.source_account_id IS DISTINCT FROM md5(:account::text)::uuid
+        AND (t.transaction_date, t.id) < (timestamp '9999-12-31 23:59:59', 'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid)
+        AND t.transaction_date BETWEEN timestamp '1900-01-01' AND timestamp '9999-12-31 23:59:59'
+      ORDER BY t.transaction_date DESC, t.id DESC
+      LIMIT 21)
+) u
+ORDER BY u.transaction_date DESC, u.id DESC
+LIMIT 21;
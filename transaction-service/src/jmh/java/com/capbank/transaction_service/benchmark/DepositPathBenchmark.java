@@ -0,0 +1,104 @@
+package com.capbank.transaction_service.benchmark;
+
+import com.capbank.transaction_service.core.application.port.in.DepositUseCase.DepositCommand;
+import com.capbank.transaction_service.core.application.port.out.NotificationServicePort.TransactionMetadata;
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionPersistenceMapper;
+import com.capbank.transaction_service.infrastructure.dto.DepositRequest;
+import com.capbank.transaction_service.infrastructure.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho em memória de um depósito: requisição para comando, criação da
+ * transação, saldo resultante, entidade JPA, metadados da notificação e DTO.
+ *
+ * <p>{@code arithmeticBigDecimal} reproduz as operações que o {@link Money}
+ * baseado em {@link BigDecimal} fazia nesse caminho (setScale e checagem de
+ * sinal a cada operação). Não é uma linha de base fiel: o setScale de um valor
+ * já com duas casas devolve a mesma instância, cujo toString fica em cache.
+ * Para comparar as duas representações de {@link Money}, rode este benchmark
+ * antes e depois da troca, com {@code -prof gc} para ver também as alocações.</p>
+ *
+ * <p>Com os centavos em {@code long} a aritmética fica mais barata; as
+ * conversões de borda reaproveitam o {@link BigDecimal} guardado em cada
+ * {@link Money}. No {@code depositPath} o custo é dominado por UUID, datas e
+ * montagem de DTOs, então a diferença entre as representações fica dentro do
+ * ruído da medição.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DepositPathBenchmark {
+
+    private final TransactionMapper transactionMapper = new TransactionMapper();
+    private final TransactionPersistenceMapper persistenceMapper = new TransactionPersistenceMapper();
+
+    private DepositRequest request;
+    private Money balanceBefore;
+    private BigDecimal rawBalanceBefore;
+
+    @Setup
+    public void setUp() {
+        request = new DepositRequest("550e8400-e29b-41d4-a716-446655440001", new BigDecimal("250.00"), "Depósito");
+        balanceBefore = new Money("1534.27");
+        rawBalanceBefore = new BigDecimal("1534.27");
+    }
+
+    @Benchmark
+    public void depositPath(Blackhole blackhole) {
+        DepositCommand command = transactionMapper.toDepositCommand(request);
+        Transaction transaction = Transaction.createDeposit(
+                command.targetAccountId(), command.amount(), command.description());
+        Money balanceAfter = balanceBefore.add(transaction.getAmount());
+
+        blackhole.consume(balanceAfter.getAmount());
+        blackhole.consume(persistenceMapper.toJpaEntity(transaction));
+        blackhole.consume(TransactionMetadata.from(transaction));
+        blackhole.consume(transactionMapper.toResponse(transaction));
+    }
+
+    @Benchmark
+    public void arithmeticCents(Blackhole blackhole) {
+        Money amount = Money.of(request.amount());
+        Money balanceAfter = balanceBefore.add(amount);
+
+        blackhole.consume(balanceAfter.isGreaterThan(balanceBefore));
+        blackhole.consume(amount.toString());
+        blackhole.consume(balanceAfter.getAmount());
+    }
+
+    @Benchmark
+    public void arithmeticBigDecimal(Blackhole blackhole) {
+        BigDecimal amount = scaled(request.amount());
+        BigDecimal balanceAfter = scaled(rawBalanceBefore.add(amount));
+
+        blackhole.consume(balanceAfter.compareTo(rawBalanceBefore) > 0);
+        blackhole.consume(amount.toString());
+        blackhole.consume(balanceAfter);
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        if (value.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Valor não pode ser negativo");
+        }
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,66 @@
+package com.capbank.transaction_service.benchmark;
+
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operações de {@link Money} sobre centavos em {@code long}: soma e subtração
+ * com checagem de overflow, comparação sem alocação e a conversão de entrada a
+ * partir de {@link BigDecimal} (com escala diferente de duas casas) e de texto.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoneyBenchmark {
+
+    private Money balance;
+    private Money amount;
+    private BigDecimal rawAmount;
+
+    @Setup
+    public void setUp() {
+        balance = new Money("1534.27");
+        amount = new Money("89.90");
+        rawAmount = new BigDecimal("89.9");
+    }
+
+    @Benchmark
+    public Money add() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return balance.isGreaterThan(amount);
+    }
+
+    @Benchmark
+    public Money fromBigDecimal() {
+        return new Money(rawAmount);
+    }
+
+    @Benchmark
+    public Money fromString() {
+        return new Money("89.90");
+    }
+}
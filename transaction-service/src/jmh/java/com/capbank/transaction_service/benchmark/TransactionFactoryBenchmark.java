@@ -0,0 +1,55 @@
+package com.capbank.transaction_service.benchmark;
+
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fábricas de {@link Transaction}, incluindo a geração do ID (UUIDv7) e da data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransactionFactoryBenchmark {
+
+    private AccountId source;
+    private AccountId target;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        source = new AccountId("550e8400-e29b-41d4-a716-446655440000");
+        target = new AccountId("550e8400-e29b-41d4-a716-446655440001");
+        amount = new Money("250.00");
+    }
+
+    @Benchmark
+    public Transaction createDeposit() {
+        return Transaction.createDeposit(target, amount, "Depósito");
+    }
+
+    @Benchmark
+    public Transaction createWithdrawal() {
+        return Transaction.createWithdrawal(source, amount, "Saque");
+    }
+
+    @Benchmark
+    public Transaction createTransfer() {
+        return Transaction.createTransfer(source, target, amount, "Transferência");
+    }
+}
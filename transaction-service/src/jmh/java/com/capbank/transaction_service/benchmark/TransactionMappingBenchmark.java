@@ -0,0 +1,94 @@
+package com.capbank.transaction_service.benchmark;
+
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionJpaEntity;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionPersistenceMapper;
+import com.capbank.transaction_service.infrastructure.dto.TransactionResponse;
+import com.capbank.transaction_service.infrastructure.dto.TransactionResultResponse;
+import com.capbank.transaction_service.infrastructure.mapper.TransactionMapper;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões do caminho de uma requisição: domínio para entidade JPA e de
+ * volta, domínio para DTO e serialização JSON da resposta com a mesma
+ * configuração do {@code spring.jackson} da aplicação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransactionMappingBenchmark {
+
+    private final TransactionPersistenceMapper persistenceMapper = new TransactionPersistenceMapper();
+    private final TransactionMapper transactionMapper = new TransactionMapper();
+
+    private ObjectMapper objectMapper;
+    private Transaction transaction;
+    private TransactionJpaEntity jpaEntity;
+    private TransactionResultResponse resultResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        transaction = Transaction.createTransfer(
+                new AccountId("550e8400-e29b-41d4-a716-446655440000"),
+                new AccountId("550e8400-e29b-41d4-a716-446655440001"),
+                new Money("250.00"),
+                "Transferência");
+        jpaEntity = persistenceMapper.toJpaEntity(transaction);
+        resultResponse = new TransactionResultResponse(
+                transactionMapper.toResponse(transaction), "Transferência realizada com sucesso", true);
+    }
+
+    @Benchmark
+    public TransactionJpaEntity toJpaEntity() {
+        return persistenceMapper.toJpaEntity(transaction);
+    }
+
+    @Benchmark
+    public Transaction toDomainEntity() {
+        return persistenceMapper.toDomainEntity(jpaEntity);
+    }
+
+    @Benchmark
+    public TransactionResponse toResponse() {
+        return transactionMapper.toResponse(transaction);
+    }
+
+    @Benchmark
+    public byte[] serializeResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(resultResponse);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new TransactionResultResponse(
+                transactionMapper.toResponse(transaction), "Transferência realizada com sucesso", true));
+    }
+}
@@ -0,0 +1,18 @@
+package com.capbank.transaction_service.core.application.exception;
+
+/**
+ * Operação recusada antes de alterar qualquer saldo: dados inválidos ou
+ * recusa do bankaccount-service (conta inexistente, saldo insuficiente).
+ * Repetir a requisição é seguro, ao contrário das demais falhas, que podem
+ * acontecer depois de o saldo ter sido alterado.
+ */
+public class TransactionRejectedException extends IllegalArgumentException {
+
+    public TransactionRejectedException(String message) {
+        super(message);
+    }
+
+    public TransactionRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 
 public interface FindTransactionHistoryUseCase {
@@ -17,6 +18,18 @@ public interface FindTransactionHistoryUseCase {
 
     TransactionHistoryPage findByAccountId(FindTransactionHistoryQuery query);
 
+    /**
+     * Paginação por cursor, ordenada por data de registro e ID decrescentes, sem
+     * contagem total. {@code cursor} nulo devolve a primeira página.
+     */
+    TransactionHistorySlice findByAccountIdAfter(FindTransactionHistoryQuery query, SeekCursor cursor);
+
+    /**
+     * Percorre o histórico da conta em ordem cronológica entregando um registro
+     * por vez ao {@code consumer}, sem acumular a lista em memória.
+     */
+    void exportByAccountId(ExportTransactionHistoryQuery query, Consumer<TransactionHistory> consumer);
+
   
     record FindTransactionHistoryQuery(
             AccountId accountId,
@@ -60,6 +73,21 @@ public interface FindTransactionHistoryUseCase {
         }
     }
 
+    record ExportTransactionHistoryQuery(
+            AccountId accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        public ExportTransactionHistoryQuery {
+            if (accountId == null) {
+                throw new IllegalArgumentException("ID da conta não pode ser nulo");
+            }
+            if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("Data de início não pode ser após a data de fim");
+            }
+        }
+    }
+
     record TransactionHistoryPage(
             List<TransactionHistory> content,
             int pageNumber,
@@ -69,4 +97,11 @@ public interface FindTransactionHistoryUseCase {
             boolean first,
             boolean last
     ) {}
-}
\ No newline at end of file
+
+    record TransactionHistorySlice(
+            List<TransactionHistory> content,
+            int pageSize,
+            boolean hasNext,
+            SeekCursor nextCursor
+    ) {}
+}
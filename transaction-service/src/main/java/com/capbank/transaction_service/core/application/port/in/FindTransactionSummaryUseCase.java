@@ -0,0 +1,56 @@
+package com.capbank.transaction_service.core.application.port.in;
+
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.enums.TransactionDirection;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FindTransactionSummaryUseCase {
+
+    /**
+     * Resumo por período lido apenas dos agregados pré-calculados; não percorre
+     * as transações da conta.
+     */
+    TransactionSummary summarize(TransactionSummaryQuery query);
+
+    record TransactionSummaryQuery(
+            AccountId accountId,
+            SummaryGranularity granularity,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        public TransactionSummaryQuery {
+            if (accountId == null) {
+                throw new IllegalArgumentException("ID da conta não pode ser nulo");
+            }
+            if (granularity == null) {
+                throw new IllegalArgumentException("Granularidade não pode ser nula");
+            }
+            if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("Data de início não pode ser após a data de fim");
+            }
+        }
+    }
+
+    record TransactionSummary(
+            AccountId accountId,
+            SummaryGranularity granularity,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<SummaryBucket> buckets
+    ) {}
+
+    record SummaryBucket(
+            LocalDate periodStart,
+            TransactionDirection direction,
+            TransactionType transactionType,
+            TransactionStatus status,
+            long transactionCount,
+            Money totalAmount
+    ) {}
+}
@@ -17,6 +17,12 @@ public interface FindTransactionUseCase {
 
     TransactionPage findByAccount(FindTransactionQuery query);
 
+    /**
+     * Paginação por cursor, ordenada por data e ID decrescentes, sem contagem
+     * total. {@code cursor} nulo devolve a primeira página.
+     */
+    TransactionSlice findByAccountAfter(FindTransactionQuery query, SeekCursor cursor);
+
   
     record FindTransactionQuery(
             AccountId accountId,
@@ -70,4 +76,11 @@ public interface FindTransactionUseCase {
             boolean first,
             boolean last
     ) {}
-}
\ No newline at end of file
+
+    record TransactionSlice(
+            List<Transaction> content,
+            int pageSize,
+            boolean hasNext,
+            SeekCursor nextCursor
+    ) {}
+}
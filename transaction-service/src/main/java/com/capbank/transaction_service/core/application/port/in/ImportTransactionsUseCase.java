@@ -0,0 +1,45 @@
+package com.capbank.transaction_service.core.application.port.in;
+
+import java.util.Iterator;
+import java.util.List;
+
+public interface ImportTransactionsUseCase {
+
+    /**
+     * Importa lançamentos de um ledger legado. As linhas são consumidas uma a
+     * uma do iterador e gravadas em lotes; linhas inválidas não interrompem a
+     * importação e aparecem no relatório de erros.
+     */
+    ImportResult importTransactions(Iterator<ImportRow> rows);
+
+    /**
+     * Linha como veio do arquivo, ainda sem conversão. {@code error} vem
+     * preenchido quando a linha nem pôde ser lida (JSON ou CSV malformado).
+     */
+    record ImportRow(
+            long lineNumber,
+            String transactionType,
+            String sourceAccountId,
+            String targetAccountId,
+            String amount,
+            String description,
+            String transactionDate,
+            String error
+    ) {
+        public static ImportRow malformed(long lineNumber, String error) {
+            return new ImportRow(lineNumber, null, null, null, null, null, null, error);
+        }
+    }
+
+    record RowError(
+            long lineNumber,
+            String message
+    ) {}
+
+    record ImportResult(
+            long totalRows,
+            long importedRows,
+            long rejectedRows,
+            List<RowError> errors
+    ) {}
+}
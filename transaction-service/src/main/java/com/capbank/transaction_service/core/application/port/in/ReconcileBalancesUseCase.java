@@ -0,0 +1,61 @@
+package com.capbank.transaction_service.core.application.port.in;
+
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReconcileBalancesUseCase {
+
+    /**
+     * Compara o último saldo do histórico de cada conta do lote com o saldo do
+     * bankaccount-service e grava, sob {@code runId}, as divergências que se
+     * confirmam numa segunda leitura. Retorna as divergências gravadas.
+     */
+    List<BalanceDiscrepancy> reconcile(UUID runId, List<LedgerBalance> ledgerBalances);
+
+    /**
+     * Saldo após o último lançamento do histórico da conta.
+     */
+    record LedgerBalance(
+            AccountId accountId,
+            Money balance,
+            UUID lastTransactionId,
+            LocalDateTime lastRecordDate
+    ) {
+        public LedgerBalance {
+            if (accountId == null) {
+                throw new IllegalArgumentException("ID da conta não pode ser nulo");
+            }
+            if (balance == null) {
+                throw new IllegalArgumentException("Saldo não pode ser nulo");
+            }
+        }
+    }
+
+    /**
+     * {@code accountBalance} é nulo quando a conta não existe no bankaccount-service.
+     */
+    record BalanceDiscrepancy(
+            UUID runId,
+            LedgerBalance ledgerBalance,
+            Money accountBalance,
+            LocalDateTime detectedAt
+    ) {
+        public boolean isMissingAccount() {
+            return accountBalance == null;
+        }
+
+        /**
+         * Saldo da conta menos o saldo do histórico; nulo quando a conta não existe.
+         */
+        public BigDecimal difference() {
+            return accountBalance == null
+                    ? null
+                    : BigDecimal.valueOf(accountBalance.getCents() - ledgerBalance.balance().getCents(), 2);
+        }
+    }
+}
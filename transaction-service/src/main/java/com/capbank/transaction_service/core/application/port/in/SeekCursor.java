@@ -0,0 +1,22 @@
+package com.capbank.transaction_service.core.application.port.in;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Posição de continuação da paginação por cursor: o último registro devolvido,
+ * identificado pela data e pelo ID que desempata registros com a mesma data.
+ */
+public record SeekCursor(
+        LocalDateTime timestamp,
+        UUID id
+) {
+    public SeekCursor {
+        if (timestamp == null) {
+            throw new IllegalArgumentException("Data do cursor não pode ser nula");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("ID do cursor não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.capbank.transaction_service.core.application.port.out;
+
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.BalanceDiscrepancy;
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.LedgerBalance;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BalanceReconciliationRepositoryPort {
+
+    /**
+     * Até {@code limit} saldos em ordem crescente de conta, começando depois de
+     * {@code after} (ou do início quando nulo). A conta do último item é o
+     * {@code after} da próxima página.
+     */
+    List<LedgerBalance> findLedgerBalancesAfter(AccountId after, int limit);
+
+    /**
+     * Releitura no primário, usada para confirmar uma divergência.
+     */
+    List<LedgerBalance> findLedgerBalances(Collection<AccountId> accountIds);
+
+    void saveDiscrepancies(List<BalanceDiscrepancy> discrepancies);
+}
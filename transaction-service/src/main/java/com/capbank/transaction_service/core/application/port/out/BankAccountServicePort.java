@@ -1,26 +1,111 @@
 package com.capbank.transaction_service.core.application.port.out;
 
+import com.capbank.transaction_service.core.application.exception.TransactionRejectedException;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.Money;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface BankAccountServicePort {
 
-    void updateBalance(AccountId accountId, Money amount, BalanceOperation operation);
+    /**
+     * Applies the amount to the account balance in a single atomic call and
+     * returns the balances immediately before and after the change. Fails with
+     * {@link TransactionRejectedException} when the account does not exist or
+     * when the operation would leave the balance negative; nothing was applied
+     * then. Any other failure may happen after the change was applied.
+     */
+    BalanceChange applyDelta(AccountId accountId, Money amount, BalanceOperation operation);
+
+    /**
+     * Applies all legs in one remote call and one database transaction on the
+     * bank account side: either every leg is applied or none is. Resulting
+     * balance changes are returned in the same order as the legs. Rejections
+     * are reported as in {@link #applyDelta}.
+     */
+    List<BalanceChange> applyDeltas(List<BalanceLeg> legs);
 
     Money getBalance(AccountId accountId);
 
+    /**
+     * Reads the current balance of every account in one remote call. Accounts
+     * that do not exist on the bank account side are absent from the result.
+     */
+    Map<AccountId, Money> getBalances(Collection<AccountId> accountIds);
+
     enum BalanceOperation {
         ADD,
         SUBTRACT
     }
 
-    record BalanceUpdateRequest(
+    record BalanceLeg(
+            AccountId accountId,
+            Money amount,
+            BalanceOperation operation
+    ) {
+        public BalanceLeg {
+            if (accountId == null) {
+                throw new IllegalArgumentException("Account ID cannot be null");
+            }
+            if (amount == null) {
+                throw new IllegalArgumentException("Amount cannot be null");
+            }
+            if (operation == null) {
+                throw new IllegalArgumentException("Operation cannot be null");
+            }
+        }
+
+        public BigDecimal signedAmount() {
+            return switch (operation) {
+                case ADD -> amount.getAmount();
+                case SUBTRACT -> amount.getAmount().negate();
+            };
+        }
+    }
+
+    record BalanceChange(
+            Money balanceBefore,
+            Money balanceAfter
+    ) {
+        public BalanceChange {
+            if (balanceBefore == null || balanceAfter == null) {
+                throw new IllegalArgumentException("Balances cannot be null");
+            }
+        }
+    }
+
+    record BalanceDeltaRequest(
+            BigDecimal delta
+    ) {}
+
+    record BalanceBatchRequest(
+            List<BalanceBatchLeg> legs
+    ) {}
+
+    record BalanceBatchLeg(
             String accountId,
-            String amount,
-            String operation
+            BigDecimal delta
     ) {}
 
-    record BalanceResponse(
-            String balance
+    record BalanceBulkRequest(
+            List<String> accountIds
     ) {}
+
+    record AccountBalanceResponse(
+            String id,
+            BigDecimal balance
+    ) {}
+
+    record BalanceDeltaResponse(
+            String id,
+            BigDecimal balanceBefore,
+            BigDecimal balance
+    ) {
+        public BalanceChange toBalanceChange() {
+            return new BalanceChange(Money.of(balanceBefore), Money.of(balance));
+        }
+    }
 }
@@ -1,13 +1,17 @@
 package com.capbank.transaction_service.core.application.port.out;
 
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.ExportTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.FindTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistoryPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistorySlice;
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TransactionHistoryRepositoryPort {
 
@@ -22,7 +26,9 @@ public interface TransactionHistoryRepositoryPort {
 
     TransactionHistoryPage findByAccountIdWithFilters(FindTransactionHistoryQuery query);
 
-    boolean existsByTransactionId(UUID transactionId);
+    TransactionHistorySlice findByAccountIdWithFiltersAfter(FindTransactionHistoryQuery query, SeekCursor cursor);
+
+    void streamByAccountId(ExportTransactionHistoryQuery query, Consumer<TransactionHistory> consumer);
 
     Optional<TransactionHistory> findLatestByAccountId(AccountId accountId);
     
@@ -2,6 +2,8 @@ package com.capbank.transaction_service.core.application.port.out;
 
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.FindTransactionQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionSlice;
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
 import com.capbank.transaction_service.core.domain.entity.Transaction;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
@@ -14,12 +16,17 @@ public interface TransactionRepositoryPort {
  
     Transaction save(Transaction transaction);
 
+    // Gravação em lote para importação; devolve quantas linhas foram gravadas
+    long insertAll(List<Transaction> transactions);
+
     Optional<Transaction> findById(TransactionId transactionId);
 
     List<Transaction> findByAccount(AccountId accountId);
 
     TransactionPage findByAccountWithFilters(FindTransactionQuery query);
 
+    TransactionSlice findByAccountWithFiltersAfter(FindTransactionQuery query, SeekCursor cursor);
+
     Transaction update(Transaction transaction);
 
     long countByAccount(AccountId accountId);
@@ -0,0 +1,32 @@
+package com.capbank.transaction_service.core.application.port.out;
+
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+
+import java.util.function.Supplier;
+
+public interface TransactionStageObserverPort {
+
+    /**
+     * Executa {@code action} medindo a etapa do processamento da transação.
+     * O resultado e as exceções de {@code action} são repassados sem alteração.
+     */
+    <T> T observe(TransactionType type, Stage stage, Supplier<T> action);
+
+    enum Stage {
+        PIPELINE("pipeline"),
+        SAVE("save"),
+        BALANCE_UPDATE("balance_update"),
+        HISTORY("history"),
+        NOTIFICATION("notification");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.capbank.transaction_service.core.application.port.out;
+
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.SummaryBucket;
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TransactionSummaryRepositoryPort {
+
+    /**
+     * Agregados da conta cujo início de período está entre {@code fromPeriod} e
+     * {@code toPeriod} (inclusive), em ordem crescente de período.
+     */
+    List<SummaryBucket> findBuckets(AccountId accountId, SummaryGranularity granularity,
+                                    LocalDate fromPeriod, LocalDate toPeriod);
+}
@@ -0,0 +1,96 @@
+package com.capbank.transaction_service.core.application.service;
+
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase;
+import com.capbank.transaction_service.core.application.port.out.BalanceReconciliationRepositoryPort;
+import com.capbank.transaction_service.core.application.port.out.BankAccountServicePort;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sem transação própria: o lote não segura conexão com o banco enquanto
+ * aguarda o bankaccount-service, e cada leitura ou gravação abre a sua.
+ */
+@Service
+public class BalanceReconciliationService implements ReconcileBalancesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceReconciliationService.class);
+
+    private final BalanceReconciliationRepositoryPort reconciliationRepository;
+    private final BankAccountServicePort bankAccountServicePort;
+
+    public BalanceReconciliationService(BalanceReconciliationRepositoryPort reconciliationRepository,
+                                        BankAccountServicePort bankAccountServicePort) {
+        this.reconciliationRepository = reconciliationRepository;
+        this.bankAccountServicePort = bankAccountServicePort;
+    }
+
+    @Override
+    public List<BalanceDiscrepancy> reconcile(UUID runId, List<LedgerBalance> ledgerBalances) {
+        if (ledgerBalances.isEmpty()) {
+            return List.of();
+        }
+
+        List<LedgerBalance> suspects = diverging(ledgerBalances,
+                bankAccountServicePort.getBalances(accountIds(ledgerBalances)));
+        if (suspects.isEmpty()) {
+            return List.of();
+        }
+
+        // Um lançamento em andamento altera o saldo da conta antes de gravar o histórico.
+        // Só conta como divergência o que se repete numa segunda leitura com o histórico
+        // inalterado; se o histórico andou, a conta fica para a próxima execução.
+        Map<AccountId, LedgerBalance> current = new HashMap<>();
+        for (LedgerBalance ledger : reconciliationRepository.findLedgerBalances(accountIds(suspects))) {
+            current.put(ledger.accountId(), ledger);
+        }
+        List<LedgerBalance> unchanged = suspects.stream()
+                .filter(ledger -> {
+                    LedgerBalance reread = current.get(ledger.accountId());
+                    return reread != null && reread.lastTransactionId().equals(ledger.lastTransactionId());
+                })
+                .toList();
+        if (unchanged.isEmpty()) {
+            return List.of();
+        }
+
+        Map<AccountId, Money> accountBalances = bankAccountServicePort.getBalances(accountIds(unchanged));
+        LocalDateTime detectedAt = LocalDateTime.now();
+        List<BalanceDiscrepancy> discrepancies = diverging(unchanged, accountBalances).stream()
+                .map(ledger -> new BalanceDiscrepancy(runId, ledger, accountBalances.get(ledger.accountId()), detectedAt))
+                .toList();
+        if (discrepancies.isEmpty()) {
+            return List.of();
+        }
+
+        reconciliationRepository.saveDiscrepancies(discrepancies);
+        logger.warn("Reconciliation run {} found {} balance discrepancies in a chunk of {} accounts",
+                runId, discrepancies.size(), ledgerBalances.size());
+
+        return discrepancies;
+    }
+
+    private static List<LedgerBalance> diverging(List<LedgerBalance> ledgerBalances, Map<AccountId, Money> accountBalances) {
+        List<LedgerBalance> diverging = new ArrayList<>();
+        for (LedgerBalance ledger : ledgerBalances) {
+            Money accountBalance = accountBalances.get(ledger.accountId());
+            if (accountBalance == null || !accountBalance.isEqualTo(ledger.balance())) {
+                diverging.add(ledger);
+            }
+        }
+        return diverging;
+    }
+
+    private static List<AccountId> accountIds(List<LedgerBalance> ledgerBalances) {
+        return ledgerBalances.stream().map(LedgerBalance::accountId).toList();
+    }
+}
@@ -2,14 +2,17 @@ package com.capbank.transaction_service.core.application.service;
 
 import com.capbank.transaction_service.core.application.port.in.CreateTransactionHistoryUseCase;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase;
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
 import com.capbank.transaction_service.core.application.port.out.TransactionHistoryRepositoryPort;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.enums.TransactionType;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TransactionHistoryService implements CreateTransactionHistoryUseCase, FindTransactionHistoryUseCase {
@@ -22,15 +25,10 @@ public class TransactionHistoryService implements CreateTransactionHistoryUseCas
 
     @Override
     public TransactionHistory createTransactionHistory(CreateTransactionHistoryCommand command) {
-        // Validar se já existe histórico para esta transação
-        if (transactionHistoryRepositoryPort.existsByTransactionId(command.transactionId().getValue())) {
-            throw new IllegalArgumentException("Histórico de transação já existe para a transação: " + command.transactionId());
-        }
-
         // Criar o histórico baseado no tipo de transação
         TransactionHistory transactionHistory = createHistoryByType(command);
 
-        // Salvar e retornar
+        // Salvar e retornar; histórico duplicado é recusado pela restrição de unicidade no repositório
         return transactionHistoryRepositoryPort.save(transactionHistory);
     }
 
@@ -61,6 +59,7 @@ public class TransactionHistoryService implements CreateTransactionHistoryUseCas
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TransactionHistory> findById(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("ID não pode ser nulo");
@@ -69,6 +68,7 @@ public class TransactionHistoryService implements CreateTransactionHistoryUseCas
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TransactionHistoryPage findByAccountId(FindTransactionHistoryQuery query) {
         // Validações adicionais podem ser adicionadas aqui
         validateQuery(query);
@@ -77,6 +77,20 @@ public class TransactionHistoryService implements CreateTransactionHistoryUseCas
         return transactionHistoryRepositoryPort.findByAccountIdWithFilters(query);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionHistorySlice findByAccountIdAfter(FindTransactionHistoryQuery query, SeekCursor cursor) {
+        validateQuery(query);
+
+        return transactionHistoryRepositoryPort.findByAccountIdWithFiltersAfter(query, cursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByAccountId(ExportTransactionHistoryQuery query, Consumer<TransactionHistory> consumer) {
+        transactionHistoryRepositoryPort.streamByAccountId(query, consumer);
+    }
+
     private void validateQuery(FindTransactionHistoryQuery query) {
         if (query.size() > 100) {
             throw new IllegalArgumentException("Tamanho da página não pode ser maior que 100");
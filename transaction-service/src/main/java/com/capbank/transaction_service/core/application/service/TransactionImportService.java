@@ -0,0 +1,175 @@
+package com.capbank.transaction_service.core.application.service;
+
+import com.capbank.transaction_service.core.application.port.in.ImportTransactionsUseCase;
+import com.capbank.transaction_service.core.application.port.out.TransactionRepositoryPort;
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class TransactionImportService implements ImportTransactionsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionImportService.class);
+
+    private static final int CHUNK_SIZE = 5_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final TransactionRepositoryPort transactionRepository;
+
+    public TransactionImportService(TransactionRepositoryPort transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public ImportResult importTransactions(Iterator<ImportRow> rows) {
+        List<Transaction> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+        List<RowError> errors = new ArrayList<>();
+        long total = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            total++;
+
+            try {
+                chunk.add(toTransaction(row));
+                chunkLines.add(row.lineNumber());
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                reportError(errors, row.lineNumber(), e.getMessage());
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                long written = writeChunk(chunk, chunkLines, errors);
+                imported += written;
+                rejected += chunk.size() - written;
+                chunk.clear();
+                chunkLines.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            long written = writeChunk(chunk, chunkLines, errors);
+            imported += written;
+            rejected += chunk.size() - written;
+        }
+
+        logger.info("Transaction import finished: total={}, imported={}, rejected={}", total, imported, rejected);
+        return new ImportResult(total, imported, rejected, errors);
+    }
+
+    private long writeChunk(List<Transaction> chunk, List<Long> chunkLines, List<RowError> errors) {
+        try {
+            return transactionRepository.insertAll(chunk);
+        } catch (RuntimeException e) {
+            // O lote é gravado em uma única transação: se falhar, nenhuma linha dele entra
+            logger.error("Failed to write import chunk of {} rows starting at line {}: {}",
+                    chunk.size(), chunkLines.get(0), e.getMessage(), e);
+            for (Long line : chunkLines) {
+                reportError(errors, line, "Falha ao gravar lote: " + e.getMessage());
+            }
+            return 0;
+        }
+    }
+
+    private void reportError(List<RowError> errors, long lineNumber, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(lineNumber, message));
+        }
+    }
+
+    private Transaction toTransaction(ImportRow row) {
+        if (row.error() != null) {
+            throw new IllegalArgumentException(row.error());
+        }
+
+        TransactionType type = parseType(row.transactionType());
+        AccountId sourceAccountId = parseAccountId(row.sourceAccountId());
+        AccountId targetAccountId = parseAccountId(row.targetAccountId());
+        Money amount = parseAmount(row.amount());
+
+        Transaction transaction = switch (type) {
+            case DEPOSIT -> {
+                if (sourceAccountId != null) {
+                    throw new IllegalArgumentException("Conta de origem deve ser nula para depósitos");
+                }
+                yield Transaction.createDeposit(targetAccountId, amount, row.description());
+            }
+            case WITHDRAWAL -> {
+                if (targetAccountId != null) {
+                    throw new IllegalArgumentException("Conta de destino deve ser nula para saques");
+                }
+                yield Transaction.createWithdrawal(sourceAccountId, amount, row.description());
+            }
+            case TRANSFER -> Transaction.createTransfer(sourceAccountId, targetAccountId, amount, row.description());
+        };
+
+        LocalDateTime transactionDate = parseDate(row.transactionDate());
+        return transactionDate != null ? transaction.occurredAt(transactionDate) : transaction;
+    }
+
+    private TransactionType parseType(String value) {
+        if (isBlank(value)) {
+            throw new IllegalArgumentException("Tipo de transação não pode ser nulo");
+        }
+        try {
+            return TransactionType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de transação inválido: " + value);
+        }
+    }
+
+    private AccountId parseAccountId(String value) {
+        return isBlank(value) ? null : new AccountId(value.trim());
+    }
+
+    private Money parseAmount(String value) {
+        if (isBlank(value)) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido: " + value);
+        }
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("Valor deve ser positivo");
+        }
+        return Money.of(amount);
+    }
+
+    private LocalDateTime parseDate(String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        LocalDateTime date;
+        try {
+            date = LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data da transação inválida (formato: yyyy-MM-dd'T'HH:mm:ss): " + value);
+        }
+        if (date.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Data da transação não pode estar no futuro: " + value);
+        }
+        return date;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,22 +1,33 @@
 package com.capbank.transaction_service.core.application.service;
 
+import com.capbank.transaction_service.core.application.exception.TransactionRejectedException;
 import com.capbank.transaction_service.core.application.port.in.*;
 import com.capbank.transaction_service.core.application.port.out.BankAccountServicePort;
 import com.capbank.transaction_service.core.application.port.out.NotificationServicePort;
 import com.capbank.transaction_service.core.application.port.out.TransactionHistoryRepositoryPort;
 import com.capbank.transaction_service.core.application.port.out.TransactionRepositoryPort;
+import com.capbank.transaction_service.core.application.port.out.TransactionStageObserverPort;
+import com.capbank.transaction_service.core.application.port.out.TransactionStageObserverPort.Stage;
 import com.capbank.transaction_service.core.domain.entity.Transaction;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.enums.NotificationChannel;
 import com.capbank.transaction_service.core.domain.enums.NotificationType;
 import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.Money;
 import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @Service
 public class TransactionService implements
@@ -29,88 +40,109 @@ public class TransactionService implements
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
 
+    // Chave do MDC com o id da transação em processamento, presente nos logs de todas as etapas
+    public static final String TRANSACTION_ID_MDC_KEY = "transactionId";
+
     private final TransactionRepositoryPort transactionRepository;
     private final TransactionHistoryRepositoryPort historyRepository;
     private final NotificationServicePort notificationService;
     private final BankAccountServicePort bankAccountService;
+    private final TransactionStageObserverPort stageObserver;
 
     public TransactionService(
             TransactionRepositoryPort transactionRepository,
             TransactionHistoryRepositoryPort historyRepository,
             NotificationServicePort notificationService,
-            BankAccountServicePort bankAccountService) {
+            BankAccountServicePort bankAccountService,
+            TransactionStageObserverPort stageObserver) {
         this.transactionRepository = transactionRepository;
         this.historyRepository = historyRepository;
         this.notificationService = notificationService;
         this.bankAccountService = bankAccountService;
+        this.stageObserver = stageObserver;
     }
 
     @Override
+    @Transactional
     public CreateTransactionUseCase.TransactionResult processTransaction(CreateTransactionCommand command) {
-        logger.info("Processing transaction: type={}, amount={}", command.type(), command.amount());
+        logger.debug("Processing transaction: type={}, amount={}", command.type(), command.amount());
 
         try {
-            // 1. Criar a transação
+            // 1. Criar a transação (apenas registro: os saldos não são alterados)
             Transaction transaction = createTransactionFromCommand(command);
             Transaction savedTransaction = transactionRepository.save(transaction);
-            logger.info("Transaction created with ID: {}", savedTransaction.getId());
+            MDC.put(TRANSACTION_ID_MDC_KEY, savedTransaction.getId().toString());
+            logger.debug("Transaction created with ID: {}", savedTransaction.getId());
 
-            // 2. Criar o histórico (simulando consulta de saldo atual)
+            // 2. Criar o histórico a partir do último saldo conhecido
             Money currentBalance = getCurrentBalance(savedTransaction.getPrimaryAccountId());
             TransactionHistory history = createHistoryFromTransaction(savedTransaction, currentBalance);
             historyRepository.save(history);
-            logger.info("Transaction history created for transaction: {}", savedTransaction.getId());
+            logger.debug("Transaction history created for transaction: {}", savedTransaction.getId());
 
             // 3. Enviar notificação
             boolean notificationSent = sendTransactionNotification(savedTransaction);
-            logger.info("Notification sent: {} for transaction: {}", notificationSent, savedTransaction.getId());
+            logger.debug("Notification sent: {} for transaction: {}", notificationSent, savedTransaction.getId());
 
-            String message = String.format("Transação processada com sucesso. Valor: %s, Tipo: %s",
-                    savedTransaction.getAmount(), savedTransaction.getType());
+            String message = "Transação processada com sucesso. Valor: " + savedTransaction.getAmount()
+                    + ", Tipo: " + savedTransaction.getType();
 
             return new CreateTransactionUseCase.TransactionResult(savedTransaction, message, notificationSent);
 
         } catch (Exception e) {
             logger.error("Error processing transaction: {}", e.getMessage(), e);
             throw new RuntimeException("Falha ao processar transação: " + e.getMessage(), e);
+        } finally {
+            MDC.remove(TRANSACTION_ID_MDC_KEY);
         }
     }
 
     @Override
+    @Transactional
     public DepositUseCase.TransactionResult processDeposit(DepositUseCase.DepositCommand command) {
-        logger.info("Processing deposit: targetAccountId={}, amount={}",
+        try {
+            return stageObserver.observe(TransactionType.DEPOSIT, Stage.PIPELINE, () -> deposit(command));
+        } finally {
+            MDC.remove(TRANSACTION_ID_MDC_KEY);
+        }
+    }
+
+    private DepositUseCase.TransactionResult deposit(DepositUseCase.DepositCommand command) {
+        logger.debug("Processing deposit: targetAccountId={}, amount={}",
                 command.targetAccountId(), command.amount());
 
         try {
             // 1. Create deposit transaction
-            Transaction transaction = Transaction.createDeposit(
+            Transaction transaction = validated(() -> Transaction.createDeposit(
                     command.targetAccountId(),
                     command.amount(),
                     command.description()
-            );
-            Transaction savedTransaction = transactionRepository.save(transaction);
-            logger.info("Deposit transaction created with ID: {}", savedTransaction.getId());
+            ));
+            Transaction savedTransaction = stageObserver.observe(TransactionType.DEPOSIT, Stage.SAVE,
+                    () -> transactionRepository.save(transaction));
+            MDC.put(TRANSACTION_ID_MDC_KEY, savedTransaction.getId().toString());
+            logger.debug("Deposit transaction created with ID: {}", savedTransaction.getId());
 
             // 2. Update account balance
-            bankAccountService.updateBalance(
-                    savedTransaction.getTargetAccountId(),
-                    savedTransaction.getAmount(),
-                    BankAccountServicePort.BalanceOperation.ADD
-            );
-            logger.info("Account balance updated for deposit: {}", savedTransaction.getId());
+            BankAccountServicePort.BalanceChange balanceChange = stageObserver.observe(
+                    TransactionType.DEPOSIT, Stage.BALANCE_UPDATE, () -> bankAccountService.applyDelta(
+                            savedTransaction.getTargetAccountId(),
+                            savedTransaction.getAmount(),
+                            BankAccountServicePort.BalanceOperation.ADD
+                    ));
+            logger.debug("Account balance updated for deposit: {}", savedTransaction.getId());
 
             // 3. Create transaction history
-            Money currentBalance = getCurrentBalance(savedTransaction.getPrimaryAccountId());
-            TransactionHistory history = createHistoryFromTransaction(savedTransaction, currentBalance);
-            historyRepository.save(history);
-            logger.info("Transaction history created for deposit: {}", savedTransaction.getId());
+            TransactionHistory history = createHistoryFromTransaction(
+                    savedTransaction, savedTransaction.getPrimaryAccountId(), balanceChange);
+            stageObserver.observe(TransactionType.DEPOSIT, Stage.HISTORY, () -> historyRepository.save(history));
+            logger.debug("Transaction history created for deposit: {}", savedTransaction.getId());
 
             // 4. Send notification
             boolean notificationSent = sendTransactionNotification(savedTransaction);
-            logger.info("Notification sent: {} for deposit: {}", notificationSent, savedTransaction.getId());
+            logger.debug("Notification sent: {} for deposit: {}", notificationSent, savedTransaction.getId());
 
-            String message = String.format("Depósito processado com sucesso. Valor: %s",
-                    savedTransaction.getAmount());
+            String message = "Depósito processado com sucesso. Valor: " + savedTransaction.getAmount();
 
             return new DepositUseCase.TransactionResult(savedTransaction, message, notificationSent);
 
@@ -121,40 +153,51 @@ public class TransactionService implements
     }
 
     @Override
+    @Transactional
     public WithdrawalUseCase.TransactionResult processWithdrawal(WithdrawalUseCase.WithdrawalCommand command) {
-        logger.info("Processing withdrawal: sourceAccountId={}, amount={}",
+        try {
+            return stageObserver.observe(TransactionType.WITHDRAWAL, Stage.PIPELINE, () -> withdrawal(command));
+        } finally {
+            MDC.remove(TRANSACTION_ID_MDC_KEY);
+        }
+    }
+
+    private WithdrawalUseCase.TransactionResult withdrawal(WithdrawalUseCase.WithdrawalCommand command) {
+        logger.debug("Processing withdrawal: sourceAccountId={}, amount={}",
                 command.sourceAccountId(), command.amount());
 
         try {
             // 1. Create withdrawal transaction
-            Transaction transaction = Transaction.createWithdrawal(
+            Transaction transaction = validated(() -> Transaction.createWithdrawal(
                     command.sourceAccountId(),
                     command.amount(),
                     command.description()
-            );
-            Transaction savedTransaction = transactionRepository.save(transaction);
-            logger.info("Withdrawal transaction created with ID: {}", savedTransaction.getId());
+            ));
+            Transaction savedTransaction = stageObserver.observe(TransactionType.WITHDRAWAL, Stage.SAVE,
+                    () -> transactionRepository.save(transaction));
+            MDC.put(TRANSACTION_ID_MDC_KEY, savedTransaction.getId().toString());
+            logger.debug("Withdrawal transaction created with ID: {}", savedTransaction.getId());
 
             // 2. Update account balance
-            bankAccountService.updateBalance(
-                    savedTransaction.getSourceAccountId(),
-                    savedTransaction.getAmount(),
-                    BankAccountServicePort.BalanceOperation.SUBTRACT
-            );
-            logger.info("Account balance updated for withdrawal: {}", savedTransaction.getId());
+            BankAccountServicePort.BalanceChange balanceChange = stageObserver.observe(
+                    TransactionType.WITHDRAWAL, Stage.BALANCE_UPDATE, () -> bankAccountService.applyDelta(
+                            savedTransaction.getSourceAccountId(),
+                            savedTransaction.getAmount(),
+                            BankAccountServicePort.BalanceOperation.SUBTRACT
+                    ));
+            logger.debug("Account balance updated for withdrawal: {}", savedTransaction.getId());
 
             // 3. Create transaction history
-            Money currentBalance = getCurrentBalance(savedTransaction.getPrimaryAccountId());
-            TransactionHistory history = createHistoryFromTransaction(savedTransaction, currentBalance);
-            historyRepository.save(history);
-            logger.info("Transaction history created for withdrawal: {}", savedTransaction.getId());
+            TransactionHistory history = createHistoryFromTransaction(
+                    savedTransaction, savedTransaction.getPrimaryAccountId(), balanceChange);
+            stageObserver.observe(TransactionType.WITHDRAWAL, Stage.HISTORY, () -> historyRepository.save(history));
+            logger.debug("Transaction history created for withdrawal: {}", savedTransaction.getId());
 
             // 4. Send notification
             boolean notificationSent = sendTransactionNotification(savedTransaction);
-            logger.info("Notification sent: {} for withdrawal: {}", notificationSent, savedTransaction.getId());
+            logger.debug("Notification sent: {} for withdrawal: {}", notificationSent, savedTransaction.getId());
 
-            String message = String.format("Saque processado com sucesso. Valor: %s",
-                    savedTransaction.getAmount());
+            String message = "Saque processado com sucesso. Valor: " + savedTransaction.getAmount();
 
             return new WithdrawalUseCase.TransactionResult(savedTransaction, message, notificationSent);
 
@@ -165,50 +208,66 @@ public class TransactionService implements
     }
 
     @Override
+    @Transactional
     public TransferUseCase.TransactionResult processTransfer(TransferUseCase.TransferCommand command) {
-        logger.info("Processing transfer: sourceAccountId={}, targetAccountId={}, amount={}",
+        try {
+            return stageObserver.observe(TransactionType.TRANSFER, Stage.PIPELINE, () -> transfer(command));
+        } finally {
+            MDC.remove(TRANSACTION_ID_MDC_KEY);
+        }
+    }
+
+    private TransferUseCase.TransactionResult transfer(TransferUseCase.TransferCommand command) {
+        logger.debug("Processing transfer: sourceAccountId={}, targetAccountId={}, amount={}",
                 command.sourceAccountId(), command.targetAccountId(), command.amount());
 
         try {
             // 1. Create transfer transaction
-            Transaction transaction = Transaction.createTransfer(
+            Transaction transaction = validated(() -> Transaction.createTransfer(
                     command.sourceAccountId(),
                     command.targetAccountId(),
                     command.amount(),
                     command.description()
+            ));
+            Transaction savedTransaction = stageObserver.observe(TransactionType.TRANSFER, Stage.SAVE,
+                    () -> transactionRepository.save(transaction));
+            MDC.put(TRANSACTION_ID_MDC_KEY, savedTransaction.getId().toString());
+            logger.debug("Transfer transaction created with ID: {}", savedTransaction.getId());
+
+            // 2. Update account balances (both legs in a single atomic batch)
+            List<BankAccountServicePort.BalanceLeg> legs = List.of(
+                    new BankAccountServicePort.BalanceLeg(
+                            savedTransaction.getSourceAccountId(),
+                            savedTransaction.getAmount(),
+                            BankAccountServicePort.BalanceOperation.SUBTRACT
+                    ),
+                    new BankAccountServicePort.BalanceLeg(
+                            savedTransaction.getTargetAccountId(),
+                            savedTransaction.getAmount(),
+                            BankAccountServicePort.BalanceOperation.ADD
+                    )
             );
-            Transaction savedTransaction = transactionRepository.save(transaction);
-            logger.info("Transfer transaction created with ID: {}", savedTransaction.getId());
-
-            // 2. Update account balances
-            // Subtract from source account
-            bankAccountService.updateBalance(
-                    savedTransaction.getSourceAccountId(),
-                    savedTransaction.getAmount(),
-                    BankAccountServicePort.BalanceOperation.SUBTRACT
-            );
-            logger.info("Source account balance updated for transfer: {}", savedTransaction.getId());
-
-            // Add to target account
-            bankAccountService.updateBalance(
-                    savedTransaction.getTargetAccountId(),
-                    savedTransaction.getAmount(),
-                    BankAccountServicePort.BalanceOperation.ADD
-            );
-            logger.info("Target account balance updated for transfer: {}", savedTransaction.getId());
-
-            // 3. Create transaction history
-            Money currentBalance = getCurrentBalance(savedTransaction.getPrimaryAccountId());
-            TransactionHistory history = createHistoryFromTransaction(savedTransaction, currentBalance);
-            historyRepository.save(history);
-            logger.info("Transaction history created for transfer: {}", savedTransaction.getId());
+            List<BankAccountServicePort.BalanceChange> balanceChanges = stageObserver.observe(
+                    TransactionType.TRANSFER, Stage.BALANCE_UPDATE, () -> bankAccountService.applyDeltas(legs));
+            logger.debug("Account balances updated for transfer: {}", savedTransaction.getId());
+
+            // 3. Create transaction history for both legs, so each account's latest balance
+            //    follows the transfer. Saved in account order: the snapshot rows are locked
+            //    in the same order by opposite transfers between the same accounts.
+            List<TransactionHistory> histories = IntStream.range(0, legs.size())
+                    .mapToObj(i -> createHistoryFromTransaction(
+                            savedTransaction, legs.get(i).accountId(), balanceChanges.get(i)))
+                    .sorted(Comparator.comparing(history -> history.getAccountId().getValue()))
+                    .toList();
+            stageObserver.observe(TransactionType.TRANSFER, Stage.HISTORY,
+                    () -> histories.stream().map(historyRepository::save).toList());
+            logger.debug("Transaction history created for transfer: {}", savedTransaction.getId());
 
             // 4. Send notification
             boolean notificationSent = sendTransactionNotification(savedTransaction);
-            logger.info("Notification sent: {} for transfer: {}", notificationSent, savedTransaction.getId());
+            logger.debug("Notification sent: {} for transfer: {}", notificationSent, savedTransaction.getId());
 
-            String message = String.format("Transferência processada com sucesso. Valor: %s",
-                    savedTransaction.getAmount());
+            String message = "Transferência processada com sucesso. Valor: " + savedTransaction.getAmount();
 
             return new TransferUseCase.TransactionResult(savedTransaction, message, notificationSent);
 
@@ -222,14 +281,16 @@ public class TransactionService implements
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Transaction> findById(TransactionId transactionId) {
-        logger.info("Finding transaction by ID: {}", transactionId);
+        logger.debug("Finding transaction by ID: {}", transactionId);
         return transactionRepository.findById(transactionId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TransactionPage findByAccount(FindTransactionQuery query) {
-        logger.info("Finding transactions for account: {}", query.accountId());
+        logger.debug("Finding transactions for account: {}", query.accountId());
 
 
         if (query.size() > 100) {
@@ -240,8 +301,21 @@ public class TransactionService implements
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public TransactionSlice findByAccountAfter(FindTransactionQuery query, SeekCursor cursor) {
+        logger.debug("Finding transactions for account: {} after cursor: {}", query.accountId(), cursor);
+
+        if (query.size() > 100) {
+            throw new IllegalArgumentException("Tamanho da página não pode ser maior que 100");
+        }
+
+        return transactionRepository.findByAccountWithFiltersAfter(query, cursor);
+    }
+
+    @Override
+    @Transactional
     public Transaction updateStatus(UpdateStatusCommand command) {
-        logger.info("Updating transaction status: id={}, newStatus={}",
+        logger.debug("Updating transaction status: id={}, newStatus={}",
                    command.transactionId(), command.newStatus());
 
         Transaction transaction = transactionRepository.findById(command.transactionId())
@@ -255,7 +329,7 @@ public class TransactionService implements
             sendStatusChangeNotification(updatedTransaction, command.reason());
         }
 
-        logger.info("Transaction status updated successfully: {}", command.transactionId());
+        logger.debug("Transaction status updated successfully: {}", command.transactionId());
         return updatedTransaction;
     }
 
@@ -271,6 +345,10 @@ public class TransactionService implements
         };
     }
 
+    /**
+     * Histórico do endpoint genérico, que não movimenta saldo: o saldo anterior
+     * é deduzido do último saldo conhecido da conta.
+     */
     private TransactionHistory createHistoryFromTransaction(Transaction transaction, Money currentBalance) {
         Money balanceBefore = switch (transaction.getType()) {
             case DEPOSIT -> {
@@ -308,6 +386,36 @@ public class TransactionService implements
         };
     }
 
+    // Falhas aqui acontecem antes de qualquer alteração de saldo
+    private static Transaction validated(Supplier<Transaction> factory) {
+        try {
+            return factory.get();
+        } catch (IllegalArgumentException e) {
+            throw new TransactionRejectedException(e.getMessage(), e);
+        }
+    }
+
+    private Money getCurrentBalance(AccountId accountId) {
+        return historyRepository.findLatestByAccountId(accountId)
+                .map(TransactionHistory::getBalanceAfter)
+                .orElse(Money.ZERO);
+    }
+
+    private TransactionHistory createHistoryFromTransaction(Transaction transaction,
+                                                            AccountId accountId,
+                                                            BankAccountServicePort.BalanceChange balanceChange) {
+        return new TransactionHistory.Builder()
+                .accountId(accountId)
+                .transactionId(transaction.getId())
+                .balanceBefore(balanceChange.balanceBefore())
+                .balanceAfter(balanceChange.balanceAfter())
+                .transactionAmount(transaction.getAmount())
+                .transactionType(transaction.getType())
+                .status(transaction.getStatus())
+                .description(transaction.getDescription())
+                .build();
+    }
+
     private boolean sendTransactionNotification(Transaction transaction) {
         try {
             String title = generateNotificationTitle(transaction);
@@ -315,7 +423,7 @@ public class TransactionService implements
 
             NotificationServicePort.TransactionNotification notification =
                     new NotificationServicePort.TransactionNotification(
-                            "user-" + transaction.getPrimaryAccountId().toString(), 
+                            transaction.getPrimaryAccountId().toString(),
                             transaction.getPrimaryAccountId(),
                             NotificationType.TRANSACTION,
                             NotificationChannel.EMAIL, 
@@ -324,7 +432,8 @@ public class TransactionService implements
                             NotificationServicePort.TransactionMetadata.from(transaction)
                     );
 
-            return notificationService.sendTransactionNotification(notification);
+            return stageObserver.observe(transaction.getType(), Stage.NOTIFICATION,
+                    () -> notificationService.sendTransactionNotification(notification));
         } catch (Exception e) {
             logger.warn("Failed to send notification for transaction {}: {}",
                        transaction.getId(), e.getMessage());
@@ -367,19 +476,9 @@ public class TransactionService implements
 
     private String generateNotificationMessage(Transaction transaction) {
         return switch (transaction.getType()) {
-            case DEPOSIT -> String.format("Um depósito de %s foi processado com sucesso.",
-                    transaction.getAmount());
-            case WITHDRAWAL -> String.format("Um saque de %s foi processado com sucesso.",
-                    transaction.getAmount());
-            case TRANSFER -> String.format("Uma transferência de %s foi processada com sucesso.",
-                    transaction.getAmount());
+            case DEPOSIT -> "Um depósito de " + transaction.getAmount() + " foi processado com sucesso.";
+            case WITHDRAWAL -> "Um saque de " + transaction.getAmount() + " foi processado com sucesso.";
+            case TRANSFER -> "Uma transferência de " + transaction.getAmount() + " foi processada com sucesso.";
         };
     }
-
-    private Money getCurrentBalance(com.capbank.transaction_service.core.domain.valueobject.AccountId accountId) {
-
-        return historyRepository.findLatestByAccountId(accountId)
-                .map(TransactionHistory::getBalanceAfter)
-                .orElse(new Money("0.00")); 
-    }
-}
\ No newline at end of file
+}
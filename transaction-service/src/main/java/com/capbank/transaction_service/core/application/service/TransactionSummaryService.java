@@ -0,0 +1,77 @@
+package com.capbank.transaction_service.core.application.service;
+
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase;
+import com.capbank.transaction_service.core.application.port.out.TransactionSummaryRepositoryPort;
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@Service
+public class TransactionSummaryService implements FindTransactionSummaryUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionSummaryService.class);
+
+    // Períodos devolvidos quando o intervalo não é informado
+    private static final int DEFAULT_DAYS = 30;
+    private static final int DEFAULT_MONTHS = 12;
+
+    // Limites de períodos por consulta, para manter a resposta pequena
+    private static final int MAX_DAYS = 366;
+    private static final int MAX_MONTHS = 120;
+
+    private final TransactionSummaryRepositoryPort summaryRepository;
+
+    public TransactionSummaryService(TransactionSummaryRepositoryPort summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionSummary summarize(TransactionSummaryQuery query) {
+        SummaryGranularity granularity = query.granularity();
+        LocalDate endDate = query.endDate() != null ? query.endDate() : LocalDate.now();
+        LocalDate startDate = query.startDate() != null ? query.startDate() : defaultStart(granularity, endDate);
+
+        LocalDate fromPeriod = granularity.periodStart(startDate);
+        LocalDate toPeriod = granularity.periodStart(endDate);
+        validateSpan(granularity, fromPeriod, toPeriod);
+
+        logger.info("Summarizing transactions for account: {} by {} from {} to {}",
+                query.accountId(), granularity, fromPeriod, toPeriod);
+
+        return new TransactionSummary(
+                query.accountId(),
+                granularity,
+                startDate,
+                endDate,
+                summaryRepository.findBuckets(query.accountId(), granularity, fromPeriod, toPeriod)
+        );
+    }
+
+    private static LocalDate defaultStart(SummaryGranularity granularity, LocalDate endDate) {
+        return switch (granularity) {
+            case DAY -> endDate.minusDays(DEFAULT_DAYS - 1);
+            case MONTH -> endDate.withDayOfMonth(1).minusMonths(DEFAULT_MONTHS - 1);
+        };
+    }
+
+    private static void validateSpan(SummaryGranularity granularity, LocalDate fromPeriod, LocalDate toPeriod) {
+        switch (granularity) {
+            case DAY -> {
+                if (ChronoUnit.DAYS.between(fromPeriod, toPeriod) + 1 > MAX_DAYS) {
+                    throw new IllegalArgumentException("Período diário não pode exceder " + MAX_DAYS + " dias");
+                }
+            }
+            case MONTH -> {
+                if (ChronoUnit.MONTHS.between(fromPeriod, toPeriod) + 1 > MAX_MONTHS) {
+                    throw new IllegalArgumentException("Período mensal não pode exceder " + MAX_MONTHS + " meses");
+                }
+            }
+        }
+    }
+}
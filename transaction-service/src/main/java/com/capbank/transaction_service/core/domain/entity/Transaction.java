@@ -104,6 +104,20 @@ public class Transaction {
         return this;
     }
 
+    // Lançamentos importados de ledgers legados mantêm a data original
+    public Transaction occurredAt(LocalDateTime date) {
+        return new Builder()
+                .id(id)
+                .sourceAccountId(sourceAccountId)
+                .targetAccountId(targetAccountId)
+                .type(type)
+                .amount(amount)
+                .description(description)
+                .transactionDate(date)
+                .status(status)
+                .build();
+    }
+
     public boolean involvesAccount(AccountId accountId) {
         return accountId.equals(sourceAccountId) || accountId.equals(targetAccountId);
     }
@@ -5,6 +5,7 @@ import com.capbank.transaction_service.core.domain.enums.TransactionType;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.Money;
 import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
+import com.capbank.transaction_service.core.domain.valueobject.UuidV7;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -23,7 +24,7 @@ public class TransactionHistory {
     private final LocalDateTime recordDate;
 
     private TransactionHistory(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : UuidV7.randomUuid();
         this.accountId = Objects.requireNonNull(builder.accountId, "ID da conta não pode ser nulo");
         this.transactionId = Objects.requireNonNull(builder.transactionId, "ID da transação não pode ser nulo");
         this.balanceBefore = Objects.requireNonNull(builder.balanceBefore, "Saldo anterior não pode ser nulo");
@@ -48,9 +49,10 @@ public class TransactionHistory {
         return switch (transactionType) {
             case DEPOSIT -> balanceBefore.add(transactionAmount);
             case WITHDRAWAL -> balanceBefore.subtract(transactionAmount);
-            case TRANSFER -> {
-                yield balanceBefore.subtract(transactionAmount);
-            }
+            // Cada transferência gera um histórico por conta: saída na origem, entrada no destino
+            case TRANSFER -> balanceAfter.isGreaterThan(balanceBefore)
+                    ? balanceBefore.add(transactionAmount)
+                    : balanceBefore.subtract(transactionAmount);
         };
     }
 
@@ -111,6 +113,25 @@ public class TransactionHistory {
                 .build();
     }
 
+    public static TransactionHistory createIncomingTransferHistory(
+            AccountId accountId,
+            TransactionId transactionId,
+            Money balanceBefore,
+            Money transferAmount,
+            String description) {
+
+        return new Builder()
+                .accountId(accountId)
+                .transactionId(transactionId)
+                .balanceBefore(balanceBefore)
+                .balanceAfter(balanceBefore.add(transferAmount))
+                .transactionAmount(transferAmount)
+                .transactionType(TransactionType.TRANSFER)
+                .status(TransactionStatus.SUCCESS)
+                .description(description)
+                .build();
+    }
+
     public UUID getId() { return id; }
     public AccountId getAccountId() { return accountId; }
     public TransactionId getTransactionId() { return transactionId; }
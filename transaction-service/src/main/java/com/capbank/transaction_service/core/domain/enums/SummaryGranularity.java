@@ -0,0 +1,20 @@
+package com.capbank.transaction_service.core.domain.enums;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public enum SummaryGranularity {
+    DAY,
+    MONTH;
+
+    /**
+     * Primeiro dia do período que contém a data informada.
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return this == MONTH ? date.withDayOfMonth(1) : date;
+    }
+
+    public LocalDate periodStart(LocalDateTime dateTime) {
+        return periodStart(dateTime.toLocalDate());
+    }
+}
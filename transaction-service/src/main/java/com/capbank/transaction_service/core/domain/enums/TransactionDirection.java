@@ -0,0 +1,10 @@
+package com.capbank.transaction_service.core.domain.enums;
+
+/**
+ * Sentido da transação do ponto de vista de uma conta: OUTGOING quando a conta
+ * é a origem, INCOMING quando é o destino.
+ */
+public enum TransactionDirection {
+    INCOMING,
+    OUTGOING
+}
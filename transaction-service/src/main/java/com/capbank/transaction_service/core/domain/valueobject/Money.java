@@ -2,21 +2,43 @@ package com.capbank.transaction_service.core.domain.valueobject;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
-public class Money {
-    private final BigDecimal amount;
+/**
+ * Valor monetário não negativo com duas casas decimais, guardado como centavos
+ * em um {@code long}. A aritmética é feita em centavos com verificação de
+ * overflow; {@link BigDecimal} só aparece nas bordas (persistência, JSON e
+ * integrações), via {@link #of(BigDecimal)} e {@link #getAmount()}.
+ *
+ * <p>Um mesmo valor costuma ser convertido em várias bordas (entidade JPA, DTO,
+ * notificação), então o {@link BigDecimal} é criado uma única vez por instância
+ * e reaproveitado, inclusive no {@link #toString()}, que usa o cache de texto do
+ * próprio {@link BigDecimal}. Um valor recebido já com duas casas é guardado
+ * como veio, sem nova conversão.</p>
+ */
+public final class Money {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    private static final int SCALE = 2;
+    private static final long CENTS_PER_UNIT = 100;
 
-    public Money(BigDecimal amount) {
-        if (amount == null) {
-            throw new IllegalArgumentException("Valor não pode ser nulo");
-        }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Valor não pode ser negativo");
+    // Valores inteiros até 1.000,00 são reaproveitados pelas fábricas
+    private static final int CACHED_UNITS = 1000;
+    private static final Money[] CACHE = new Money[CACHED_UNITS + 1];
+
+    static {
+        for (int units = 0; units <= CACHED_UNITS; units++) {
+            CACHE[units] = new Money(units * CENTS_PER_UNIT);
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public static final Money ZERO = CACHE[0];
+
+    private final long cents;
+
+    // Criado sob demanda; corrida benigna, pois BigDecimal é imutável e publicado com segurança
+    private BigDecimal amount;
+
+    public Money(BigDecimal amount) {
+        this(toCents(amount), retained(amount));
     }
 
     public Money(String amount) {
@@ -27,45 +49,99 @@ public class Money {
         this(BigDecimal.valueOf(amount));
     }
 
+    private Money(long cents) {
+        this(cents, null);
+    }
+
+    private Money(long cents, BigDecimal amount) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("Valor não pode ser negativo");
+        }
+        this.cents = cents;
+        this.amount = amount;
+    }
+
+    public static Money of(BigDecimal amount) {
+        long cents = toCents(amount);
+        if (cents >= 0 && cents % CENTS_PER_UNIT == 0 && cents / CENTS_PER_UNIT <= CACHED_UNITS) {
+            return CACHE[(int) (cents / CENTS_PER_UNIT)];
+        }
+        return new Money(cents, retained(amount));
+    }
+
+    public static Money ofCents(long cents) {
+        if (cents >= 0 && cents % CENTS_PER_UNIT == 0 && cents / CENTS_PER_UNIT <= CACHED_UNITS) {
+            return CACHE[(int) (cents / CENTS_PER_UNIT)];
+        }
+        return new Money(cents);
+    }
+
     public BigDecimal getAmount() {
-        return amount;
+        BigDecimal value = amount;
+        if (value == null) {
+            value = BigDecimal.valueOf(cents, SCALE);
+            amount = value;
+        }
+        return value;
+    }
+
+    public long getCents() {
+        return cents;
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        try {
+            return ofCents(Math.addExact(cents, other.cents));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor excede o limite suportado", e);
+        }
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return ofCents(cents - other.cents);
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return cents > other.cents;
     }
 
     public boolean isLessThan(Money other) {
-        return this.amount.compareTo(other.amount) < 0;
+        return cents < other.cents;
     }
 
     public boolean isEqualTo(Money other) {
-        return this.amount.compareTo(other.amount) == 0;
+        return cents == other.cents;
+    }
+
+    private static BigDecimal retained(BigDecimal amount) {
+        return amount.scale() == SCALE ? amount : null;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor excede o limite suportado", e);
+        }
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-        Money money = (Money) obj;
-        return Objects.equals(amount, money.amount);
+        if (!(obj instanceof Money money)) return false;
+        return cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(cents);
     }
 
     @Override
     public String toString() {
-        return amount.toString();
+        return getAmount().toString();
     }
-}
\ No newline at end of file
+}
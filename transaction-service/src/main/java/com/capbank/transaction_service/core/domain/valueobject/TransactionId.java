@@ -25,7 +25,7 @@ public class TransactionId {
     }
 
     public static TransactionId generate() {
-        return new TransactionId(UUID.randomUUID());
+        return new TransactionId(UuidV7.randomUuid());
     }
 
     public UUID getValue() {
@@ -0,0 +1,39 @@
+package com.capbank.transaction_service.core.domain.valueobject;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Gera UUIDs versão 7 (RFC 9562): os 48 bits mais significativos são o
+ * instante em milissegundos, então chaves novas entram sempre no fim do
+ * índice B-tree em vez de em páginas aleatórias.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        return fromTimestamp(System.currentTimeMillis());
+    }
+
+    private static UUID fromTimestamp(long epochMillis) {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+
+        long randA = ((random[0] & 0xFFL) << 8 | (random[1] & 0xFFL)) & 0x0FFFL;
+        long mostSigBits = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16
+                | 0x7000L
+                | randA;
+
+        long randB = 0;
+        for (int i = 2; i < 10; i++) {
+            randB = (randB << 8) | (random[i] & 0xFFL);
+        }
+        long leastSigBits = (randB & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -3,13 +3,21 @@ package com.capbank.transaction_service.infrastructure.adapter.in.web;
 import com.capbank.transaction_service.core.application.port.in.*;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.FindTransactionQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionSlice;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.TransactionSummaryQuery;
 import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
 import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
 import com.capbank.transaction_service.core.domain.enums.TransactionType;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
 import com.capbank.transaction_service.infrastructure.dto.*;
+import com.capbank.transaction_service.infrastructure.idempotency.IdempotencyStore;
+import com.capbank.transaction_service.infrastructure.lane.AccountLaneExecutor;
+import com.capbank.transaction_service.infrastructure.mapper.SeekCursorCodec;
+import com.capbank.transaction_service.infrastructure.mapper.TransactionImportReader;
 import com.capbank.transaction_service.infrastructure.mapper.TransactionMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,15 +25,24 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 
 @RestController
 @RequestMapping("/api/transaction")
@@ -40,7 +57,12 @@ public class TransactionController {
     private final TransferUseCase transferUseCase;
     private final FindTransactionUseCase findTransactionUseCase;
     private final UpdateTransactionStatusUseCase updateTransactionStatusUseCase;
+    private final ImportTransactionsUseCase importTransactionsUseCase;
+    private final FindTransactionSummaryUseCase findTransactionSummaryUseCase;
     private final TransactionMapper mapper;
+    private final IdempotencyStore idempotencyStore;
+    private final AccountLaneExecutor accountLanes;
+    private final ObjectMapper objectMapper;
 
     public TransactionController(
             CreateTransactionUseCase createTransactionUseCase,
@@ -49,14 +71,24 @@ public class TransactionController {
             TransferUseCase transferUseCase,
             FindTransactionUseCase findTransactionUseCase,
             UpdateTransactionStatusUseCase updateTransactionStatusUseCase,
-            TransactionMapper mapper) {
+            ImportTransactionsUseCase importTransactionsUseCase,
+            FindTransactionSummaryUseCase findTransactionSummaryUseCase,
+            TransactionMapper mapper,
+            IdempotencyStore idempotencyStore,
+            AccountLaneExecutor accountLanes,
+            ObjectMapper objectMapper) {
         this.createTransactionUseCase = createTransactionUseCase;
         this.depositUseCase = depositUseCase;
         this.withdrawalUseCase = withdrawalUseCase;
         this.transferUseCase = transferUseCase;
         this.findTransactionUseCase = findTransactionUseCase;
         this.updateTransactionStatusUseCase = updateTransactionStatusUseCase;
+        this.importTransactionsUseCase = importTransactionsUseCase;
+        this.findTransactionSummaryUseCase = findTransactionSummaryUseCase;
         this.mapper = mapper;
+        this.idempotencyStore = idempotencyStore;
+        this.accountLanes = accountLanes;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Criar depósito",
@@ -65,35 +97,46 @@ public class TransactionController {
         @ApiResponse(responseCode = "201", description = "Depósito criado com sucesso",
                     content = @Content(schema = @Schema(implementation = TransactionResultResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma Idempotency-Key em processamento"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key reutilizada com outro corpo"),
+        @ApiResponse(responseCode = "429", description = "Muitas operações em andamento para a conta"),
         @ApiResponse(responseCode = "500", description = "Erro interno no processamento")
     })
     @PostMapping("/deposit")
     public ResponseEntity<TransactionResultResponse> createDeposit(
+            @Parameter(description = "Chave de idempotência; repetições com a mesma chave devolvem o resultado original")
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody DepositRequest request) {
 
-        logger.info("Creating deposit: targetAccountId={}, amount={}",
+        logger.debug("Creating deposit: targetAccountId={}, amount={}",
                    request.targetAccountId(), request.amount());
 
-        try {
-            DepositUseCase.TransactionResult result = depositUseCase.processDeposit(
-                    mapper.toDepositCommand(request));
-
-            TransactionResultResponse response = new TransactionResultResponse(
-                    mapper.toResponse(result.transaction()),
-                    result.message(),
-                    result.notificationSent()
-            );
-
-            logger.info("Deposit created successfully with ID: {}", result.transaction().getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-
-        } catch (IllegalArgumentException e) {
-            logger.error("Business rule violation creating deposit: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            logger.error("Unexpected error creating deposit: {}", e.getMessage(), e);
-            throw e;
-        }
+        // convertido antes de reservar a chave: uma requisição inválida não ocupa a Idempotency-Key
+        DepositUseCase.DepositCommand command = mapper.toDepositCommand(request);
+        IdempotencyStore.Outcome outcome = idempotencyStore.execute(idempotencyKey, "DEPOSIT", request, () -> {
+            try {
+                DepositUseCase.TransactionResult result = accountLanes.execute(
+                        command.targetAccountId(), () -> depositUseCase.processDeposit(command));
+
+                TransactionResultResponse response = new TransactionResultResponse(
+                        mapper.toResponse(result.transaction()),
+                        result.message(),
+                        result.notificationSent()
+                );
+
+                logger.info("Deposit created successfully with ID: {}", result.transaction().getId());
+                return response;
+
+            } catch (IllegalArgumentException e) {
+                logger.error("Business rule violation creating deposit: {}", e.getMessage());
+                throw e;
+            } catch (Exception e) {
+                logger.error("Unexpected error creating deposit: {}", e.getMessage(), e);
+                throw e;
+            }
+        });
+
+        return created(outcome);
     }
 
     @Operation(summary = "Criar saque",
@@ -102,35 +145,45 @@ public class TransactionController {
         @ApiResponse(responseCode = "201", description = "Saque criado com sucesso",
                     content = @Content(schema = @Schema(implementation = TransactionResultResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma Idempotency-Key em processamento"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key reutilizada com outro corpo"),
+        @ApiResponse(responseCode = "429", description = "Muitas operações em andamento para a conta"),
         @ApiResponse(responseCode = "500", description = "Erro interno no processamento")
     })
     @PostMapping("/withdrawal")
     public ResponseEntity<TransactionResultResponse> createWithdrawal(
+            @Parameter(description = "Chave de idempotência; repetições com a mesma chave devolvem o resultado original")
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody WithdrawalRequest request) {
 
-        logger.info("Creating withdrawal: sourceAccountId={}, amount={}",
+        logger.debug("Creating withdrawal: sourceAccountId={}, amount={}",
                    request.sourceAccountId(), request.amount());
 
-        try {
-            WithdrawalUseCase.TransactionResult result = withdrawalUseCase.processWithdrawal(
-                    mapper.toWithdrawalCommand(request));
-
-            TransactionResultResponse response = new TransactionResultResponse(
-                    mapper.toResponse(result.transaction()),
-                    result.message(),
-                    result.notificationSent()
-            );
-
-            logger.info("Withdrawal created successfully with ID: {}", result.transaction().getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-
-        } catch (IllegalArgumentException e) {
-            logger.error("Business rule violation creating withdrawal: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            logger.error("Unexpected error creating withdrawal: {}", e.getMessage(), e);
-            throw e;
-        }
+        WithdrawalUseCase.WithdrawalCommand command = mapper.toWithdrawalCommand(request);
+        IdempotencyStore.Outcome outcome = idempotencyStore.execute(idempotencyKey, "WITHDRAWAL", request, () -> {
+            try {
+                WithdrawalUseCase.TransactionResult result = accountLanes.execute(
+                        command.sourceAccountId(), () -> withdrawalUseCase.processWithdrawal(command));
+
+                TransactionResultResponse response = new TransactionResultResponse(
+                        mapper.toResponse(result.transaction()),
+                        result.message(),
+                        result.notificationSent()
+                );
+
+                logger.info("Withdrawal created successfully with ID: {}", result.transaction().getId());
+                return response;
+
+            } catch (IllegalArgumentException e) {
+                logger.error("Business rule violation creating withdrawal: {}", e.getMessage());
+                throw e;
+            } catch (Exception e) {
+                logger.error("Unexpected error creating withdrawal: {}", e.getMessage(), e);
+                throw e;
+            }
+        });
+
+        return created(outcome);
     }
 
     @Operation(summary = "Criar transferência",
@@ -139,26 +192,71 @@ public class TransactionController {
         @ApiResponse(responseCode = "201", description = "Transferência criada com sucesso",
                     content = @Content(schema = @Schema(implementation = TransactionResultResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma Idempotency-Key em processamento"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key reutilizada com outro corpo"),
+        @ApiResponse(responseCode = "429", description = "Muitas operações em andamento para a conta"),
         @ApiResponse(responseCode = "500", description = "Erro interno no processamento")
     })
     @PostMapping("/transfer")
     public ResponseEntity<TransactionResultResponse> createTransfer(
+            @Parameter(description = "Chave de idempotência; repetições com a mesma chave devolvem o resultado original")
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TransferRequest request) {
 
-        logger.info("Creating transfer: sourceAccountId={}, targetAccountId={}, amount={}",
+        logger.debug("Creating transfer: sourceAccountId={}, targetAccountId={}, amount={}",
                    request.sourceAccountId(), request.targetAccountId(), request.amount());
 
-            TransferUseCase.TransactionResult result = transferUseCase.processTransfer(
-                    mapper.toTransferCommand(request));
+        TransferUseCase.TransferCommand command = mapper.toTransferCommand(request);
+        IdempotencyStore.Outcome outcome = idempotencyStore.execute(idempotencyKey, "TRANSFER", request, () -> {
+            // a faixa é a da conta debitada; o crédito no destino não disputa saldo
+            TransferUseCase.TransactionResult result = accountLanes.execute(
+                    command.sourceAccountId(), () -> transferUseCase.processTransfer(command));
 
-        TransactionResultResponse response = new TransactionResultResponse(
-                mapper.toResponse(result.transaction()),
-                result.message(),
-                result.notificationSent()
-        );
+            TransactionResultResponse response = new TransactionResultResponse(
+                    mapper.toResponse(result.transaction()),
+                    result.message(),
+                    result.notificationSent()
+            );
+
+            logger.info("Transfer created successfully with ID: {}", result.transaction().getId());
+            return response;
+        });
+
+        return created(outcome);
+    }
 
-        logger.info("Transfer created successfully with ID: {}", result.transaction().getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    @Operation(summary = "Importar transações em lote",
+               description = "Importa lançamentos de ledgers legados a partir de NDJSON (um objeto por linha) ou CSV "
+                       + "(primeira linha com os nomes das colunas). Colunas: transaction_type, source_account_id, "
+                       + "target_account_id, amount, description e transaction_date (opcional, formato yyyy-MM-dd'T'HH:mm:ss). "
+                       + "O corpo é lido em streaming e gravado em lotes; linhas inválidas são listadas no relatório "
+                       + "sem interromper a importação. Não altera saldos, não gera histórico nem notificações")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída; veja rejected_rows e errors",
+                    content = @Content(schema = @Schema(implementation = BulkImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Cabeçalho CSV inválido"),
+        @ApiResponse(responseCode = "415", description = "Content-Type diferente de application/x-ndjson ou text/csv")
+    })
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<BulkImportResponse> importTransactions(HttpServletRequest request) throws IOException {
+
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        logger.info("Importing transactions in bulk: contentType={}", contentType);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), charset), 64 * 1024)) {
+
+            Iterator<ImportTransactionsUseCase.ImportRow> rows = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                    ? TransactionImportReader.ndjson(reader, objectMapper)
+                    : TransactionImportReader.csv(reader);
+
+            ImportTransactionsUseCase.ImportResult result = importTransactionsUseCase.importTransactions(rows);
+
+            logger.info("Bulk import finished: total={}, imported={}, rejected={}",
+                       result.totalRows(), result.importedRows(), result.rejectedRows());
+            return ResponseEntity.ok(mapper.toBulkImportResponse(result));
+        }
     }
 
     @Operation(summary = "Criar transação (DEPRECATED)",
@@ -167,6 +265,7 @@ public class TransactionController {
         @ApiResponse(responseCode = "201", description = "Transação criada com sucesso",
                     content = @Content(schema = @Schema(implementation = TransactionResultResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "429", description = "Muitas operações em andamento para a conta"),
         @ApiResponse(responseCode = "500", description = "Erro interno no processamento")
     })
     @PostMapping
@@ -174,11 +273,15 @@ public class TransactionController {
     public ResponseEntity<TransactionResultResponse> createTransaction(
             @Valid @RequestBody CreateTransactionRequest request) {
 
-        logger.info("Creating transaction (DEPRECATED): type={}, amount={}", request.transactionType(), request.amount());
+        logger.debug("Creating transaction (DEPRECATED): type={}, amount={}", request.transactionType(), request.amount());
 
         try {
-            CreateTransactionUseCase.TransactionResult result = createTransactionUseCase.processTransaction(
-                    mapper.toCommand(request));
+            CreateTransactionUseCase.CreateTransactionCommand command = mapper.toCommand(request);
+            AccountId laneAccountId = command.type() == TransactionType.DEPOSIT
+                    ? command.targetAccountId()
+                    : command.sourceAccountId();
+            CreateTransactionUseCase.TransactionResult result = accountLanes.execute(
+                    laneAccountId, () -> createTransactionUseCase.processTransaction(command));
 
             TransactionResultResponse response = new TransactionResultResponse(
                     mapper.toResponse(result.transaction()),
@@ -279,6 +382,98 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Buscar transações de uma conta por cursor",
+               description = "Paginação por cursor, ordenada da transação mais recente para a mais antiga. "
+                       + "Não calcula o total de registros; envie o next_cursor da resposta para obter a próxima página "
+                       + "(cursor vazio devolve a primeira página)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Transações encontradas",
+                    content = @Content(schema = @Schema(implementation = TransactionSliceResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Parâmetros ou cursor inválidos")
+    })
+    @GetMapping(value = "/account/{accountId}", params = "cursor")
+    public ResponseEntity<TransactionSliceResponse> findByAccountAfterCursor(
+            @Parameter(description = "ID da conta")
+            @PathVariable String accountId,
+
+            @Parameter(description = "Cursor devolvido em next_cursor (vazio para a primeira página)")
+            @RequestParam String cursor,
+
+            @Parameter(description = "Tipo de transação para filtrar")
+            @RequestParam(required = false) TransactionType transactionType,
+
+            @Parameter(description = "Status da transação para filtrar")
+            @RequestParam(required = false) TransactionStatus transactionStatus,
+
+            @Parameter(description = "Data de início do período (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "Data de fim do período (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @Parameter(description = "Tamanho da página (máximo 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        logger.info("Finding transactions for account: {} by cursor with filters - type: {}, status: {}, period: {} to {}",
+                   accountId, transactionType, transactionStatus, startDate, endDate);
+
+        FindTransactionQuery query = new FindTransactionQuery(
+                new AccountId(accountId),
+                transactionType,
+                transactionStatus,
+                startDate,
+                endDate,
+                0,
+                size,
+                "transactionDate",
+                "DESC"
+        );
+
+        TransactionSlice result = findTransactionUseCase.findByAccountAfter(query, SeekCursorCodec.decode(cursor));
+        TransactionSliceResponse response = mapper.toSliceResponse(result);
+
+        logger.info("Found {} transactions for account: {} (has next: {})",
+                   result.content().size(), accountId, result.hasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Resumo de transações de uma conta",
+               description = "Quantidade e valor total por período (dia ou mês), direção, tipo e status, "
+                       + "lidos dos agregados pré-calculados. Sem datas, devolve os últimos 30 dias "
+                       + "ou os últimos 12 meses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resumo calculado",
+                    content = @Content(schema = @Schema(implementation = TransactionSummaryResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou período longo demais")
+    })
+    @GetMapping("/account/{accountId}/summary")
+    public ResponseEntity<TransactionSummaryResponse> summarizeByAccount(
+            @Parameter(description = "ID da conta")
+            @PathVariable String accountId,
+
+            @Parameter(description = "Granularidade do resumo (DAY ou MONTH)")
+            @RequestParam(defaultValue = "DAY") SummaryGranularity granularity,
+
+            @Parameter(description = "Data de início do período (formato: yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+
+            @Parameter(description = "Data de fim do período (formato: yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        logger.info("Summarizing transactions for account: {} by {} - period: {} to {}",
+                   accountId, granularity, startDate, endDate);
+
+        TransactionSummaryQuery query = new TransactionSummaryQuery(
+                new AccountId(accountId), granularity, startDate, endDate);
+
+        return ResponseEntity.ok(mapper.toSummaryResponse(findTransactionSummaryUseCase.summarize(query)));
+    }
+
     @Operation(summary = "Atualizar status da transação",
                description = "Atualiza o status de uma transação existente")
     @ApiResponses(value = {
@@ -310,5 +505,11 @@ public class TransactionController {
         }
     }
 
-
-}
\ No newline at end of file
+    private ResponseEntity<TransactionResultResponse> created(IdempotencyStore.Outcome outcome) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CREATED);
+        if (outcome.replayed()) {
+            builder.header(IdempotencyStore.REPLAYED_HEADER, "true");
+        }
+        return builder.body(outcome.response());
+    }
+}
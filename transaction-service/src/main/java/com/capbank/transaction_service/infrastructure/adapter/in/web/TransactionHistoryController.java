@@ -2,15 +2,20 @@ package com.capbank.transaction_service.infrastructure.adapter.in.web;
 
 import com.capbank.transaction_service.core.application.port.in.CreateTransactionHistoryUseCase;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.ExportTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.FindTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistoryPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistorySlice;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.enums.TransactionType;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.infrastructure.dto.CreateTransactionHistoryRequest;
 import com.capbank.transaction_service.infrastructure.dto.TransactionHistoryPageResponse;
 import com.capbank.transaction_service.infrastructure.dto.TransactionHistoryResponse;
+import com.capbank.transaction_service.infrastructure.dto.TransactionHistorySliceResponse;
+import com.capbank.transaction_service.infrastructure.mapper.SeekCursorCodec;
 import com.capbank.transaction_service.infrastructure.mapper.TransactionHistoryMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,10 +27,20 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -39,14 +54,17 @@ public class TransactionHistoryController {
     private final CreateTransactionHistoryUseCase createTransactionHistoryUseCase;
     private final FindTransactionHistoryUseCase findTransactionHistoryUseCase;
     private final TransactionHistoryMapper mapper;
+    private final ObjectMapper objectMapper;
 
     public TransactionHistoryController(
             CreateTransactionHistoryUseCase createTransactionHistoryUseCase,
             FindTransactionHistoryUseCase findTransactionHistoryUseCase,
-            TransactionHistoryMapper mapper) {
+            TransactionHistoryMapper mapper,
+            ObjectMapper objectMapper) {
         this.createTransactionHistoryUseCase = createTransactionHistoryUseCase;
         this.findTransactionHistoryUseCase = findTransactionHistoryUseCase;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Criar histórico de transação",
@@ -155,4 +173,121 @@ public class TransactionHistoryController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Buscar histórico de uma conta por cursor",
+               description = "Paginação por cursor, ordenada do registro mais recente para o mais antigo. "
+                       + "Não calcula o total de registros; envie o next_cursor da resposta para obter a próxima página "
+                       + "(cursor vazio devolve a primeira página)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Histórico encontrado",
+                    content = @Content(schema = @Schema(implementation = TransactionHistorySliceResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Parâmetros ou cursor inválidos")
+    })
+    @GetMapping(value = "/account/{accountId}", params = "cursor")
+    public ResponseEntity<TransactionHistorySliceResponse> findByAccountIdAfterCursor(
+            @Parameter(description = "ID da conta")
+            @PathVariable String accountId,
+
+            @Parameter(description = "Cursor devolvido em next_cursor (vazio para a primeira página)")
+            @RequestParam String cursor,
+
+            @Parameter(description = "Tipo de transação para filtrar")
+            @RequestParam(required = false) TransactionType transactionType,
+
+            @Parameter(description = "Data de início do período (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "Data de fim do período (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @Parameter(description = "Tamanho da página (máximo 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        logger.info("Finding transaction history for account: {} by cursor with filters - type: {}, period: {} to {}",
+                   accountId, transactionType, startDate, endDate);
+
+        FindTransactionHistoryQuery query = new FindTransactionHistoryQuery(
+                new AccountId(accountId),
+                transactionType,
+                startDate,
+                endDate,
+                0,
+                size,
+                "recordDate",
+                "DESC"
+        );
+
+        TransactionHistorySlice result =
+                findTransactionHistoryUseCase.findByAccountIdAfter(query, SeekCursorCodec.decode(cursor));
+        TransactionHistorySliceResponse response = mapper.toSliceResponse(result);
+
+        logger.info("Found {} transaction histories for account: {} (has next: {})",
+                   result.content().size(), accountId, result.hasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Exportar extrato de uma conta",
+               description = "Exporta todo o histórico da conta (ou do período informado) em ordem cronológica, "
+                       + "em CSV ou NDJSON. A resposta é gerada em streaming, sem limite de registros")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Extrato gerado"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    })
+    @GetMapping("/account/{accountId}/export")
+    public ResponseEntity<StreamingResponseBody> exportByAccountId(
+            @Parameter(description = "ID da conta")
+            @PathVariable String accountId,
+
+            @Parameter(description = "Formato do extrato (csv ou ndjson)")
+            @RequestParam(defaultValue = "csv") String format,
+
+            @Parameter(description = "Data de início do período (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "Data de fim do período (formato: yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"csv".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Formato de exportação inválido: " + format);
+        }
+
+        // Validado antes do streaming: depois do primeiro byte não há como responder 400
+        ExportTransactionHistoryQuery query = new ExportTransactionHistoryQuery(
+                new AccountId(accountId), startDate, endDate);
+
+        logger.info("Exporting transaction history for account: {} as {} - period: {} to {}",
+                   accountId, format, startDate, endDate);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            if (!ndjson) {
+                writer.write(TransactionHistoryMapper.CSV_HEADER);
+                writer.write('\n');
+            }
+            findTransactionHistoryUseCase.exportByAccountId(query, history -> {
+                try {
+                    writer.write(ndjson
+                            ? objectMapper.writeValueAsString(mapper.toResponse(history))
+                            : mapper.toCsvRow(history));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            logger.info("Transaction history export finished for account: {}", accountId);
+        };
+
+        String filename = "extrato-" + accountId + (ndjson ? ".ndjson" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
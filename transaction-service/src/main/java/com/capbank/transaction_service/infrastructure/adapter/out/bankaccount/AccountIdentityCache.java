@@ -0,0 +1,70 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.bankaccount;
+
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache limitado dos dados imutáveis de identificação das contas (número e
+ * agência), evitando um {@code GET /api/bankaccount/{id}} por chamada. Saldo e
+ * status não são guardados aqui; uma conta que deixa de existir é removida
+ * quando o bankaccount-service responde 404.
+ */
+@Component
+public class AccountIdentityCache {
+
+    private static final String CACHE_NAME = "bankaccount.identity";
+
+    private final Cache<AccountId, AccountIdentity> cache;
+
+    public AccountIdentityCache(
+            MeterRegistry meterRegistry,
+            @Value("${services.bankaccount.identity-cache.maximum-size:50000}") long maximumSize,
+            @Value("${services.bankaccount.identity-cache.ttl:PT30M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * O carregamento acontece fora do cache para que a chamada HTTP não seja
+     * feita dentro do lock do mapa; duas cargas simultâneas da mesma conta
+     * apenas gravam o mesmo valor.
+     */
+    public AccountIdentity get(AccountId accountId, Function<AccountId, AccountIdentity> loader) {
+        AccountIdentity cached = cache.getIfPresent(accountId);
+        if (cached != null) {
+            return cached;
+        }
+        AccountIdentity loaded = loader.apply(accountId);
+        cache.put(accountId, loaded);
+        return loaded;
+    }
+
+    public void invalidate(AccountId accountId) {
+        cache.invalidate(accountId);
+    }
+
+    public record AccountIdentity(
+            String id,
+            String accountNumber,
+            String agency,
+            String userId
+    ) {
+        public AccountIdentity {
+            if (accountNumber == null || accountNumber.isBlank()) {
+                throw new IllegalArgumentException("Número da conta não pode ser nulo ou vazio");
+            }
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.capbank.transaction_service.infrastructure.adapter.out.bankaccount;
 
+import com.capbank.transaction_service.core.application.exception.TransactionRejectedException;
 import com.capbank.transaction_service.core.application.port.out.BankAccountServicePort;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.Money;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class BankAccountServiceClient implements BankAccountServicePort {
@@ -19,77 +29,102 @@ public class BankAccountServiceClient implements BankAccountServicePort {
     private static final Logger logger = LoggerFactory.getLogger(BankAccountServiceClient.class);
 
     private final RestTemplate restTemplate;
+    private final AccountIdentityCache accountIdentityCache;
     private final String bankAccountServiceUrl;
 
     public BankAccountServiceClient(
-            RestTemplate restTemplate,
+            @Qualifier("bankAccountRestTemplate") RestTemplate restTemplate,
+            AccountIdentityCache accountIdentityCache,
             @Value("${services.bankaccount.url:http://localhost:8084}") String bankAccountServiceUrl) {
         this.restTemplate = restTemplate;
+        this.accountIdentityCache = accountIdentityCache;
         this.bankAccountServiceUrl = bankAccountServiceUrl;
     }
 
     @Override
-    public void updateBalance(AccountId accountId, Money amount, BalanceOperation operation) {
+    public BalanceChange applyDelta(AccountId accountId, Money amount, BalanceOperation operation) {
+        BigDecimal delta = new BalanceLeg(accountId, amount, operation).signedAmount();
+
         try {
-            logger.info("Updating balance for account: {}, amount: {}, operation: {}",
-                       accountId, amount, operation);
+            logger.debug("Applying balance delta for account: {}, delta: {}", accountId, delta);
 
-            String getAccountUrl = bankAccountServiceUrl + "/api/bankaccount/" + accountId.toString();
-            ResponseEntity<BankAccountDto> accountResponse = restTemplate.getForEntity(
-                    getAccountUrl,
-                    BankAccountDto.class
+            String deltaUrl = bankAccountServiceUrl + "/api/bankaccount/" + accountId.toString() + "/balance/delta";
+            ResponseEntity<BalanceDeltaResponse> response = restTemplate.postForEntity(
+                    deltaUrl,
+                    new BalanceDeltaRequest(delta),
+                    BalanceDeltaResponse.class
             );
 
-            if (accountResponse.getStatusCode() != HttpStatus.OK || accountResponse.getBody() == null) {
-                throw new IllegalArgumentException("Failed to retrieve account: " + accountId);
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+                throw new IllegalArgumentException("Failed to update balance for account: " + accountId);
             }
 
-            String accountNumber = accountResponse.getBody().accountNumber();
-            logger.info("Retrieved account number: {} for account ID: {}", accountNumber, accountId);
+            BalanceChange change = response.getBody().toBalanceChange();
+            logger.debug("Balance updated successfully for account: {}, before: {}, after: {}",
+                    accountId, change.balanceBefore(), change.balanceAfter());
 
-            Money currentBalance = getBalance(accountId);
-            logger.info("Current balance: {}", currentBalance);
+            return change;
 
-            Money newBalance = switch (operation) {
-                case ADD -> currentBalance.add(amount);
-                case SUBTRACT -> currentBalance.subtract(amount);
-            };
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            logger.warn("Insufficient balance for account {}: {}", accountId, e.getMessage());
+            throw new TransactionRejectedException("Saldo insuficiente na conta: " + accountId, e);
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Account not found while updating balance {}: {}", accountId, e.getMessage());
+            accountIdentityCache.invalidate(accountId);
+            throw new TransactionRejectedException("Conta não encontrada: " + accountId, e);
+        } catch (Exception e) {
+            logger.error("Error updating balance for account {}: {}", accountId, e.getMessage(), e);
+            throw e;
+        }
+    }
 
-            logger.info("New balance calculated: {}", newBalance);
+    @Override
+    public List<BalanceChange> applyDeltas(List<BalanceLeg> legs) {
+        try {
+            logger.debug("Applying balance batch with {} legs", legs.size());
+
+            BalanceBatchRequest request = new BalanceBatchRequest(legs.stream()
+                    .map(leg -> new BalanceBatchLeg(leg.accountId().toString(), leg.signedAmount()))
+                    .toList());
+
+            String batchUrl = bankAccountServiceUrl + "/api/bankaccount/balance/batch";
+            ResponseEntity<List<BalanceDeltaResponse>> response = restTemplate.exchange(
+                    batchUrl,
+                    HttpMethod.POST,
+                    new HttpEntity<>(request),
+                    new ParameterizedTypeReference<>() {}
+            );
 
-            String updateBalanceUrl = bankAccountServiceUrl +
-                    "/api/bankaccount/" + accountNumber + "/balance?newBalance=" + newBalance.getAmount();
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null
+                    || response.getBody().size() != legs.size()) {
+                throw new IllegalArgumentException("Failed to apply balance batch with " + legs.size() + " legs");
+            }
 
-            restTemplate.put(updateBalanceUrl, null);
+            List<BalanceChange> changes = response.getBody().stream()
+                    .map(BalanceDeltaResponse::toBalanceChange)
+                    .toList();
+            logger.debug("Balance batch applied successfully with {} legs", legs.size());
 
-            logger.info("Balance updated successfully for account: {}", accountId);
+            return changes;
 
-        } catch(IllegalArgumentException e) {
-            logger.error("Invalid argument while updating balance for account {}: {}", accountId, e.getMessage(), e);
-            throw e;
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            logger.warn("Insufficient balance while applying batch: {}", e.getMessage());
+            throw new TransactionRejectedException("Saldo insuficiente para concluir a operação", e);
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Account not found while applying batch: {}", e.getMessage());
+            throw new TransactionRejectedException("Conta não encontrada", e);
         } catch (Exception e) {
-            logger.error("Error updating balance for account {}: {}", accountId, e.getMessage(), e);
+            logger.error("Error applying balance batch: {}", e.getMessage(), e);
             throw e;
         }
-
     }
 
     @Override
     public Money getBalance(AccountId accountId) {
         try {
-            logger.info("Getting balance for account: {}", accountId);
-
-            String getAccountUrl = bankAccountServiceUrl + "/api/bankaccount/" + accountId.toString();
-            ResponseEntity<BankAccountDto> accountResponse = restTemplate.getForEntity(
-                    getAccountUrl,
-                    BankAccountDto.class
-            );
+            logger.debug("Getting balance for account: {}", accountId);
 
-            if (accountResponse.getStatusCode() != HttpStatus.OK || accountResponse.getBody() == null) {
-                throw new RuntimeException("Failed to retrieve account: " + accountId);
-            }
-
-            String accountNumber = accountResponse.getBody().accountNumber();
+            String accountNumber = accountIdentityCache.get(accountId, this::fetchAccountIdentity).accountNumber();
 
             String getBalanceUrl = bankAccountServiceUrl + "/api/bankaccount/" + accountNumber + "/balance";
             ResponseEntity<BigDecimal> balanceResponse = restTemplate.getForEntity(
@@ -101,17 +136,78 @@ public class BankAccountServiceClient implements BankAccountServicePort {
                 throw new RuntimeException("Failed to retrieve balance for account: " + accountId);
             }
 
-            Money balance = new Money(balanceResponse.getBody());
-            logger.info("Retrieved balance: {} for account: {}", balance, accountId);
+            Money balance = Money.of(balanceResponse.getBody());
+            logger.debug("Retrieved balance: {} for account: {}", balance, accountId);
 
             return balance;
 
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Account not found while getting balance {}: {}", accountId, e.getMessage());
+            accountIdentityCache.invalidate(accountId);
+            throw new RuntimeException("Failed to get account balance: " + e.getMessage(), e);
         } catch (Exception e) {
             logger.error("Error getting balance for account {}: {}", accountId, e.getMessage(), e);
             throw new RuntimeException("Failed to get account balance: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public Map<AccountId, Money> getBalances(Collection<AccountId> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            logger.debug("Getting balances for {} accounts", accountIds.size());
+
+            BalanceBulkRequest request = new BalanceBulkRequest(accountIds.stream()
+                    .map(AccountId::toString)
+                    .toList());
+
+            String bulkUrl = bankAccountServiceUrl + "/api/bankaccount/balance/bulk";
+            ResponseEntity<List<AccountBalanceResponse>> response = restTemplate.exchange(
+                    bulkUrl,
+                    HttpMethod.POST,
+                    new HttpEntity<>(request),
+                    new ParameterizedTypeReference<>() {}
+            );
+
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+                throw new RuntimeException("Failed to retrieve balances for " + accountIds.size() + " accounts");
+            }
+
+            Map<AccountId, Money> balances = new HashMap<>();
+            for (AccountBalanceResponse balance : response.getBody()) {
+                balances.put(new AccountId(balance.id()), Money.of(balance.balance()));
+            }
+            logger.debug("Retrieved {} of {} balances", balances.size(), accountIds.size());
+
+            return balances;
+
+        } catch (Exception e) {
+            logger.error("Error getting balances for {} accounts: {}", accountIds.size(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private AccountIdentityCache.AccountIdentity fetchAccountIdentity(AccountId accountId) {
+        logger.debug("Account identity cache miss for account: {}", accountId);
+
+        String getAccountUrl = bankAccountServiceUrl + "/api/bankaccount/" + accountId.toString();
+        ResponseEntity<BankAccountDto> accountResponse = restTemplate.getForEntity(
+                getAccountUrl,
+                BankAccountDto.class
+        );
+
+        if (accountResponse.getStatusCode() != HttpStatus.OK || accountResponse.getBody() == null) {
+            throw new RuntimeException("Failed to retrieve account: " + accountId);
+        }
+
+        BankAccountDto account = accountResponse.getBody();
+        return new AccountIdentityCache.AccountIdentity(
+                account.id(), account.accountNumber(), account.agency(), account.userId());
+    }
+
     record BankAccountDto(
             String id,
             String accountNumber,
@@ -0,0 +1,99 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.notification;
+
+import com.capbank.transaction_service.core.application.port.out.NotificationServicePort;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.NotificationOutboxJpaEntity;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.NotificationOutboxJpaRepository;
+import com.capbank.transaction_service.infrastructure.observability.TraceParentProvider;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registers notifications in the outbox table instead of calling
+ * notification-service. Joins the caller's transaction, so the entry is
+ * committed (or rolled back) together with the transaction it describes;
+ * {@link NotificationOutboxRelay} publishes it to RabbitMQ afterwards.
+ * The current trace context is stored with the entry so the consumer's span
+ * joins the trace of the request that produced it.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.delivery", havingValue = "outbox", matchIfMissing = true)
+public class NotificationOutboxAdapter implements NotificationServicePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxAdapter.class);
+
+    private final NotificationOutboxJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TraceParentProvider traceParentProvider;
+
+    public NotificationOutboxAdapter(
+            NotificationOutboxJpaRepository outboxRepository,
+            ObjectMapper objectMapper,
+            TraceParentProvider traceParentProvider) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.traceParentProvider = traceParentProvider;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean sendTransactionNotification(TransactionNotification notification) {
+        NotificationOutboxJpaEntity entry = new NotificationOutboxJpaEntity(
+                UUID.randomUUID(),
+                UUID.fromString(notification.transactionData().transactionId()),
+                serialize(NotificationMessage.from(notification)),
+                NotificationOutboxJpaEntity.Status.PENDING,
+                0,
+                null,
+                LocalDateTime.now(),
+                null
+        );
+        traceParentProvider.currentTraceParent().ifPresent(entry::setTraceParent);
+        outboxRepository.save(entry);
+
+        logger.info("Notification enqueued in outbox for transaction: {}",
+                notification.transactionData().transactionId());
+        return true;
+    }
+
+    private String serialize(NotificationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification message", e);
+        }
+    }
+
+    /**
+     * Payload consumed by notification-service's RabbitMQ listener, which
+     * binds it to its {@code Notification} model with camelCase properties.
+     */
+    record NotificationMessage(
+            @JsonProperty("userId") String userId,
+            @JsonProperty("recipientEmail") String recipientEmail,
+            @JsonProperty("type") String type,
+            @JsonProperty("channel") String channel,
+            @JsonProperty("title") String title,
+            @JsonProperty("message") String message
+    ) {
+        static NotificationMessage from(TransactionNotification notification) {
+            return new NotificationMessage(
+                    notification.userId(),
+                    null,
+                    notification.type().name(),
+                    notification.channel().name(),
+                    notification.title(),
+                    notification.message()
+            );
+        }
+    }
+}
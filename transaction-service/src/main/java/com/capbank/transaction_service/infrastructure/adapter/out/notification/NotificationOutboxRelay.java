@@ -0,0 +1,154 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.notification;
+
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.NotificationOutboxJpaEntity;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.NotificationOutboxJpaRepository;
+import com.capbank.transaction_service.infrastructure.observability.TraceParentProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageBuilderSupport;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the notification outbox in batches and publishes each entry to the
+ * notification exchange. A batch is published on one channel and confirmed by
+ * the broker before the rows are marked as published, giving at-least-once
+ * delivery; the message id is the outbox id so consumers can deduplicate.
+ *
+ * A failed entry is retried with exponential backoff, from
+ * {@code initial-backoff} doubling up to {@code max-backoff}, so a broker
+ * outage spends attempts over time rather than one per polling cycle. With
+ * the defaults an entry is only marked FAILED after about an hour of failures.
+ *
+ * Each message carries the {@code traceparent} recorded when the entry was
+ * enqueued rather than the relay's own context, so the consumer continues the
+ * originating request's trace.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxRelay.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxJpaRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final String routingKey;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration confirmTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+
+    public NotificationOutboxRelay(
+            NotificationOutboxJpaRepository outboxRepository,
+            RabbitTemplate rabbitTemplate,
+            @Value("${rabbitmq.exchange.notification:notification.exchange}") String exchange,
+            @Value("${rabbitmq.routing-key.notification:notification.routing.key}") String routingKey,
+            @Value("${notification.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${notification.outbox.relay.max-attempts:20}") int maxAttempts,
+            @Value("${notification.outbox.relay.confirm-timeout:PT5S}") Duration confirmTimeout,
+            @Value("${notification.outbox.relay.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${notification.outbox.relay.max-backoff:PT5M}") Duration maxBackoff,
+            @Value("${notification.outbox.retention:PT72H}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.confirmTimeout = confirmTimeout;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.relay.interval:PT1S}")
+    @Transactional
+    public void relay() {
+        List<NotificationOutboxJpaEntity> batch = outboxRepository.lockNextPendingBatch(batchSize, LocalDateTime.now());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (NotificationOutboxJpaEntity entry : batch) {
+                    operations.send(exchange, routingKey, toMessage(entry));
+                }
+                operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to publish outbox batch of {} notifications: {}", batch.size(), e.getMessage());
+            batch.forEach(entry -> recordFailure(entry, e));
+            return;
+        }
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        batch.forEach(entry -> {
+            entry.setStatus(NotificationOutboxJpaEntity.Status.PUBLISHED);
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setPublishedAt(publishedAt);
+            entry.setLastError(null);
+        });
+        logger.info("Published {} notifications from outbox", batch.size());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        int removed = outboxRepository.deleteByStatusAndPublishedBefore(
+                NotificationOutboxJpaEntity.Status.PUBLISHED, LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            logger.info("Removed {} published outbox entries", removed);
+        }
+    }
+
+    private Message toMessage(NotificationOutboxJpaEntity entry) {
+        MessageBuilderSupport<Message> builder = MessageBuilder.withBody(entry.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(entry.getId().toString())
+                .setCorrelationId(entry.getTransactionId().toString());
+        if (entry.getTraceParent() != null) {
+            builder.setHeader(TraceParentProvider.TRACE_PARENT_HEADER, entry.getTraceParent());
+        }
+        return builder.build();
+    }
+
+    private void recordFailure(NotificationOutboxJpaEntity entry, Exception e) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        entry.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= maxAttempts) {
+            entry.setStatus(NotificationOutboxJpaEntity.Status.FAILED);
+            logger.error("Outbox entry {} for transaction {} marked as FAILED after {} attempts",
+                    entry.getId(), entry.getTransactionId(), attempts);
+            return;
+        }
+        entry.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+    }
+
+    private Duration backoff(int attempts) {
+        // the shift is capped so the doubling cannot overflow before max-backoff applies
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -3,18 +3,31 @@ package com.capbank.transaction_service.infrastructure.adapter.out.notification;
 import com.capbank.transaction_service.core.application.port.out.NotificationServicePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
 
+/**
+ * Synchronous HTTP delivery to notification-service. The call is handed to the
+ * application task executor (virtual threads when {@code spring.threads.virtual.enabled})
+ * once the surrounding transaction commits, so the request thread and its database
+ * connection are never held while notification-service responds.
+ */
 @Component
+@ConditionalOnProperty(name = "notification.delivery", havingValue = "http")
 public class NotificationServiceClient implements NotificationServicePort {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceClient.class);
@@ -22,20 +35,38 @@ public class NotificationServiceClient implements NotificationServicePort {
     private final RestTemplate restTemplate;
     private final String notificationServiceUrl;
     private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+    private final TaskExecutor taskExecutor;
 
     public NotificationServiceClient(
-            RestTemplate restTemplate,
+            @Qualifier("notificationRestTemplate") RestTemplate restTemplate,
             CircuitBreakerFactory<?, ?> circuitBreakerFactory,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor,
             @Value("${services.notification.url:http://localhost:8086}") String notificationServiceUrl) {
         this.restTemplate = restTemplate;
         this.circuitBreakerFactory = circuitBreakerFactory;
+        this.taskExecutor = taskExecutor;
         this.notificationServiceUrl = notificationServiceUrl;
     }
 
     @Override
     public boolean sendTransactionNotification(TransactionNotification notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            taskExecutor.execute(() -> deliver(notification));
+            return true;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskExecutor.execute(() -> deliver(notification));
+            }
+        });
+        return true;
+    }
+
+    private boolean deliver(TransactionNotification notification) {
         try {
-            logger.info("Sending notification to user: {} for transaction: {}",
+            logger.debug("Sending notification to user: {} for transaction: {}",
                        notification.userId(), notification.transactionData().transactionId());
 
             HttpHeaders headers = new HttpHeaders();
@@ -51,7 +82,7 @@ public class NotificationServiceClient implements NotificationServicePort {
                         url, httpEntity, NotificationResponse.class);
                 boolean ok = response.getStatusCode().is2xxSuccessful();
                 if (ok) {
-                    logger.info("Notification sent successfully to user: {}", notification.userId());
+                    logger.debug("Notification sent successfully to user: {}", notification.userId());
                 } else {
                     logger.warn("Failed to send notification. Status: {}", response.getStatusCode());
                 }
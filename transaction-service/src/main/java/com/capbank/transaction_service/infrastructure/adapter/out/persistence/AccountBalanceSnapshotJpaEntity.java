@@ -0,0 +1,94 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Somente leitura pelo JPA: as escritas são feitas pelo upsert de
+ * {@link AccountBalanceSnapshotJpaRepository#upsert}.
+ *
+ * <p>Guarda uma cópia completa do último histórico da conta ({@code balance} é
+ * o {@code balance_after} desse histórico), suficiente para montá-lo sem ler
+ * {@code transaction_history}.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "account_balance_snapshot")
+public class AccountBalanceSnapshotJpaEntity {
+
+    @Id
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private UUID lastTransactionId;
+
+    @Column(name = "last_record_date", nullable = false)
+    private LocalDateTime lastRecordDate;
+
+    @Column(name = "last_history_id", nullable = false)
+    private UUID lastHistoryId;
+
+    @Column(name = "balance_before", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balanceBefore;
+
+    @Column(name = "transaction_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal transactionAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TransactionStatus status;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AccountBalanceSnapshotJpaEntity() {}
+
+    public UUID getAccountId() { return accountId; }
+
+    public BigDecimal getBalance() { return balance; }
+
+    public UUID getLastTransactionId() { return lastTransactionId; }
+
+    public LocalDateTime getLastRecordDate() { return lastRecordDate; }
+
+    public UUID getLastHistoryId() { return lastHistoryId; }
+
+    public BigDecimal getBalanceBefore() { return balanceBefore; }
+
+    public BigDecimal getTransactionAmount() { return transactionAmount; }
+
+    public TransactionType getTransactionType() { return transactionType; }
+
+    public TransactionStatus getStatus() { return status; }
+
+    public String getDescription() { return description; }
+
+    public long getVersion() { return version; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
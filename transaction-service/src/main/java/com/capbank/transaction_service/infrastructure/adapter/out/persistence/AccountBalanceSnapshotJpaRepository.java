@@ -0,0 +1,53 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface AccountBalanceSnapshotJpaRepository extends JpaRepository<AccountBalanceSnapshotJpaEntity, UUID> {
+
+    /**
+     * Grava o histórico como último da conta, sem regredir o snapshot quando
+     * um histórico mais antigo é gravado depois de um mais recente.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO account_balance_snapshot
+                   (account_id, balance, last_transaction_id, last_record_date, last_history_id,
+                    balance_before, transaction_amount, transaction_type, status, description,
+                    version, updated_at)
+            VALUES (:accountId, :balanceAfter, :transactionId, :recordDate, :historyId,
+                    :balanceBefore, :transactionAmount, :transactionType, :status,
+                    CAST(:description AS VARCHAR(255)), 0, now())
+            ON CONFLICT (account_id) DO UPDATE
+               SET balance = EXCLUDED.balance,
+                   last_transaction_id = EXCLUDED.last_transaction_id,
+                   last_record_date = EXCLUDED.last_record_date,
+                   last_history_id = EXCLUDED.last_history_id,
+                   balance_before = EXCLUDED.balance_before,
+                   transaction_amount = EXCLUDED.transaction_amount,
+                   transaction_type = EXCLUDED.transaction_type,
+                   status = EXCLUDED.status,
+                   description = EXCLUDED.description,
+                   version = account_balance_snapshot.version + 1,
+                   updated_at = EXCLUDED.updated_at
+             WHERE account_balance_snapshot.last_record_date <= EXCLUDED.last_record_date
+            """, nativeQuery = true)
+    int upsert(@Param("accountId") UUID accountId,
+               @Param("balanceAfter") BigDecimal balanceAfter,
+               @Param("transactionId") UUID transactionId,
+               @Param("recordDate") LocalDateTime recordDate,
+               @Param("historyId") UUID historyId,
+               @Param("balanceBefore") BigDecimal balanceBefore,
+               @Param("transactionAmount") BigDecimal transactionAmount,
+               @Param("transactionType") String transactionType,
+               @Param("status") String status,
+               @Param("description") String description);
+}
@@ -0,0 +1,98 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Mantém {@code account_balance_snapshot} a partir dos históricos gravados.
+ *
+ * <p>O upsert é nativo, e executar uma query nativa obriga o Hibernate a dar
+ * flush na sessão: feito a cada histórico, cada INSERT em
+ * {@code transaction_history} sairia sozinho e o {@code hibernate.jdbc.batch_size}
+ * nunca agruparia nada. Por isso, com sincronização de transação ativa, guarda
+ * apenas o histórico mais recente de cada conta e grava o snapshot no
+ * {@code beforeCommit}, depois que todos os históricos já foram enfileirados.
+ * Sem sincronização ativa o snapshot é gravado na hora.</p>
+ */
+@Component
+public class AccountBalanceSnapshotWriter {
+
+    private final AccountBalanceSnapshotJpaRepository repository;
+
+    public AccountBalanceSnapshotWriter(AccountBalanceSnapshotJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    public void record(TransactionHistoryJpaEntity history) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(history);
+            return;
+        }
+        currentPending()
+                .orElseGet(() -> {
+                    PendingSnapshots registered = new PendingSnapshots();
+                    TransactionSynchronizationManager.registerSynchronization(registered);
+                    return registered;
+                })
+                .histories.merge(history.getAccountId(), history, AccountBalanceSnapshotWriter::latest);
+    }
+
+    /**
+     * Histórico ainda não gravado no snapshot pela transação corrente, para que
+     * ela leia o próprio lançamento antes do commit.
+     */
+    public Optional<TransactionHistoryJpaEntity> pending(UUID accountId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        return currentPending().map(pending -> pending.histories.get(accountId));
+    }
+
+    private Optional<PendingSnapshots> currentPending() {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(synchronization -> synchronization instanceof PendingSnapshots p && p.owner() == this)
+                .map(PendingSnapshots.class::cast)
+                .findFirst();
+    }
+
+    // Mesmo critério do WHERE do upsert: em empate de data vale o gravado por último
+    private static TransactionHistoryJpaEntity latest(TransactionHistoryJpaEntity current,
+                                                      TransactionHistoryJpaEntity candidate) {
+        return candidate.getRecordDate().isBefore(current.getRecordDate()) ? current : candidate;
+    }
+
+    private void upsert(TransactionHistoryJpaEntity history) {
+        repository.upsert(
+                history.getAccountId(),
+                history.getBalanceAfter(),
+                history.getTransactionId(),
+                history.getRecordDate(),
+                history.getId(),
+                history.getBalanceBefore(),
+                history.getTransactionAmount(),
+                history.getTransactionType().name(),
+                history.getStatus().name(),
+                history.getDescription()
+        );
+    }
+
+    // Ordenado por conta, para que transações concorrentes bloqueiem os snapshots na mesma ordem
+    private final class PendingSnapshots implements TransactionSynchronization {
+        private final Map<UUID, TransactionHistoryJpaEntity> histories = new TreeMap<>();
+
+        AccountBalanceSnapshotWriter owner() {
+            return AccountBalanceSnapshotWriter.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            histories.values().forEach(AccountBalanceSnapshotWriter.this::upsert);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.enums.TransactionDirection;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Somente leitura pelo JPA: as escritas são feitas pelo upsert de
+ * {@link AccountTransactionAggregateJpaRepository#upsert}.
+ */
+@Entity
+@Immutable
+@IdClass(AccountTransactionAggregateJpaEntity.Key.class)
+@Table(name = "account_transaction_aggregates")
+public class AccountTransactionAggregateJpaEntity {
+
+    @Id
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private SummaryGranularity granularity;
+
+    @Id
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false, length = 10)
+    private TransactionDirection direction;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TransactionStatus status;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AccountTransactionAggregateJpaEntity() {}
+
+    public UUID getAccountId() { return accountId; }
+
+    public SummaryGranularity getGranularity() { return granularity; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+
+    public TransactionDirection getDirection() { return direction; }
+
+    public TransactionType getTransactionType() { return transactionType; }
+
+    public TransactionStatus getStatus() { return status; }
+
+    public long getTransactionCount() { return transactionCount; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private SummaryGranularity granularity;
+        private LocalDate periodStart;
+        private TransactionDirection direction;
+        private TransactionType transactionType;
+        private TransactionStatus status;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key other)) return false;
+            return Objects.equals(accountId, other.accountId)
+                    && granularity == other.granularity
+                    && Objects.equals(periodStart, other.periodStart)
+                    && direction == other.direction
+                    && transactionType == other.transactionType
+                    && status == other.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, granularity, periodStart, direction, transactionType, status);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AccountTransactionAggregateJpaRepository
+        extends JpaRepository<AccountTransactionAggregateJpaEntity, AccountTransactionAggregateJpaEntity.Key> {
+
+    /**
+     * Soma os deltas à linha do agregado, criando-a na primeira ocorrência.
+     * Deltas negativos retiram a transação do status anterior.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO account_transaction_aggregates
+                   (account_id, granularity, period_start, direction, transaction_type, status,
+                    transaction_count, total_amount, updated_at)
+            VALUES (:accountId, :granularity, :periodStart, :direction, :transactionType, :status,
+                    :countDelta, :amountDelta, now())
+            ON CONFLICT (account_id, granularity, period_start, direction, transaction_type, status) DO UPDATE
+               SET transaction_count = account_transaction_aggregates.transaction_count + EXCLUDED.transaction_count,
+                   total_amount = account_transaction_aggregates.total_amount + EXCLUDED.total_amount,
+                   updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsert(@Param("accountId") UUID accountId,
+               @Param("granularity") String granularity,
+               @Param("periodStart") LocalDate periodStart,
+               @Param("direction") String direction,
+               @Param("transactionType") String transactionType,
+               @Param("status") String status,
+               @Param("countDelta") long countDelta,
+               @Param("amountDelta") BigDecimal amountDelta);
+
+    @Query("""
+            SELECT a FROM AccountTransactionAggregateJpaEntity a
+             WHERE a.accountId = :accountId
+               AND a.granularity = :granularity
+               AND a.periodStart BETWEEN :fromPeriod AND :toPeriod
+               AND a.transactionCount > 0
+             ORDER BY a.periodStart, a.direction, a.transactionType, a.status
+            """)
+    List<AccountTransactionAggregateJpaEntity> findByAccountAndPeriod(@Param("accountId") UUID accountId,
+                                                                     @Param("granularity") SummaryGranularity granularity,
+                                                                     @Param("fromPeriod") LocalDate fromPeriod,
+                                                                     @Param("toPeriod") LocalDate toPeriod);
+}
@@ -0,0 +1,169 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.enums.TransactionDirection;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Mantém {@code account_transaction_aggregates} a partir das transações gravadas.
+ * Deve ser chamado dentro da transação que grava ou altera as transações, para
+ * que agregados e transações nunca divirjam.
+ *
+ * <p>Os deltas são somados em memória durante a transação e aplicados só no
+ * {@code beforeCommit}, ainda dentro dela. As linhas de agregado, disputadas por
+ * todas as transações da mesma conta e período, ficam bloqueadas apenas até o
+ * commit, e não durante a chamada ao bankaccount-service. Sem sincronização de
+ * transação ativa os deltas são aplicados na hora.</p>
+ *
+ * <p>A aplicação segue a ordem de chave, de modo que transferências concorrentes
+ * em sentidos opostos bloqueiam as linhas sempre na mesma ordem.</p>
+ */
+@Component
+public class AccountTransactionAggregator {
+
+    private static final Comparator<AggregateKey> KEY_ORDER = Comparator
+            .comparing(AggregateKey::accountId)
+            .thenComparing(AggregateKey::granularity)
+            .thenComparing(AggregateKey::periodStart)
+            .thenComparing(AggregateKey::direction)
+            .thenComparing(AggregateKey::transactionType)
+            .thenComparing(AggregateKey::status);
+
+    private final AccountTransactionAggregateJpaRepository repository;
+
+    public AccountTransactionAggregator(AccountTransactionAggregateJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    public void recordCreated(Transaction transaction) {
+        recordCreated(List.of(transaction));
+    }
+
+    public void recordCreated(Collection<Transaction> transactions) {
+        Map<AggregateKey, Delta> deltas = new TreeMap<>(KEY_ORDER);
+        transactions.forEach(transaction -> accumulate(deltas, transaction, transaction.getStatus(), 1));
+        apply(deltas);
+    }
+
+    /**
+     * Move a transação do agregado do status anterior para o do status atual.
+     */
+    public void recordStatusChange(Transaction transaction, TransactionStatus previousStatus) {
+        if (previousStatus == transaction.getStatus()) {
+            return;
+        }
+        Map<AggregateKey, Delta> deltas = new TreeMap<>(KEY_ORDER);
+        accumulate(deltas, transaction, previousStatus, -1);
+        accumulate(deltas, transaction, transaction.getStatus(), 1);
+        apply(deltas);
+    }
+
+    private void accumulate(Map<AggregateKey, Delta> deltas, Transaction transaction,
+                            TransactionStatus status, int sign) {
+        long cents = transaction.getAmount().getCents();
+        for (SummaryGranularity granularity : SummaryGranularity.values()) {
+            LocalDate periodStart = granularity.periodStart(transaction.getTransactionDate());
+            addLeg(deltas, transaction.getSourceAccountId(), TransactionDirection.OUTGOING,
+                    granularity, periodStart, transaction.getType(), status, sign, cents);
+            addLeg(deltas, transaction.getTargetAccountId(), TransactionDirection.INCOMING,
+                    granularity, periodStart, transaction.getType(), status, sign, cents);
+        }
+    }
+
+    private static void addLeg(Map<AggregateKey, Delta> deltas, AccountId accountId, TransactionDirection direction,
+                               SummaryGranularity granularity, LocalDate periodStart, TransactionType type,
+                               TransactionStatus status, int sign, long cents) {
+        if (accountId == null) {
+            return;
+        }
+        AggregateKey key = new AggregateKey(accountId.getValue(), granularity, periodStart, direction, type, status);
+        deltas.computeIfAbsent(key, ignored -> new Delta()).add(sign, cents);
+    }
+
+    private void apply(Map<AggregateKey, Delta> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(deltas);
+            return;
+        }
+        PendingDeltas pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(synchronization -> synchronization instanceof PendingDeltas p && p.owner() == this)
+                .map(PendingDeltas.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingDeltas registered = new PendingDeltas();
+                    TransactionSynchronizationManager.registerSynchronization(registered);
+                    return registered;
+                });
+        deltas.forEach((key, delta) -> pending.deltas.computeIfAbsent(key, ignored -> new Delta()).merge(delta));
+    }
+
+    private void upsert(Map<AggregateKey, Delta> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta.count != 0 || delta.cents != 0) {
+                repository.upsert(
+                        key.accountId(),
+                        key.granularity().name(),
+                        key.periodStart(),
+                        key.direction().name(),
+                        key.transactionType().name(),
+                        key.status().name(),
+                        delta.count,
+                        BigDecimal.valueOf(delta.cents, 2)
+                );
+            }
+        });
+    }
+
+    // Deltas acumulados na transação corrente; suspensos junto com ela em REQUIRES_NEW
+    private final class PendingDeltas implements TransactionSynchronization {
+        private final Map<AggregateKey, Delta> deltas = new TreeMap<>(KEY_ORDER);
+
+        AccountTransactionAggregator owner() {
+            return AccountTransactionAggregator.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            upsert(deltas);
+        }
+    }
+
+    private record AggregateKey(
+            UUID accountId,
+            SummaryGranularity granularity,
+            LocalDate periodStart,
+            TransactionDirection direction,
+            TransactionType transactionType,
+            TransactionStatus status
+    ) {}
+
+    private static final class Delta {
+        private long count;
+        private long cents;
+
+        void add(int sign, long value) {
+            count += sign;
+            cents = Math.addExact(cents, sign * value);
+        }
+
+        void merge(Delta other) {
+            count += other.count;
+            cents = Math.addExact(cents, other.cents);
+        }
+    }
+}
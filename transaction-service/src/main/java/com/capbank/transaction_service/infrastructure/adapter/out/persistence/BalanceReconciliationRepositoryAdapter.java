@@ -0,0 +1,96 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.BalanceDiscrepancy;
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.LedgerBalance;
+import com.capbank.transaction_service.core.application.port.out.BalanceReconciliationRepositoryPort;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.core.domain.valueobject.UuidV7;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lê os saldos de {@code account_balance_snapshot} por faixa de chave
+ * (keyset), o que mantém cada página como um range scan na chave primária
+ * independentemente de quantas contas já foram percorridas.
+ */
+@Repository
+public class BalanceReconciliationRepositoryAdapter implements BalanceReconciliationRepositoryPort {
+
+    private static final String SELECT_LEDGER = """
+            SELECT account_id, balance, last_transaction_id, last_record_date
+              FROM account_balance_snapshot
+            """;
+
+    private static final String INSERT_DISCREPANCY = """
+            INSERT INTO balance_discrepancies
+                   (id, run_id, account_id, history_balance, account_balance, difference,
+                    last_transaction_id, last_record_date, detected_at)
+            VALUES (:id, :runId, :accountId, :historyBalance, :accountBalance, :difference,
+                    :lastTransactionId, :lastRecordDate, :detectedAt)
+            """;
+
+    private static final RowMapper<LedgerBalance> LEDGER_BALANCE_MAPPER = (rs, rowNum) -> new LedgerBalance(
+            new AccountId(rs.getObject("account_id", UUID.class)),
+            Money.of(rs.getBigDecimal("balance")),
+            rs.getObject("last_transaction_id", UUID.class),
+            rs.getTimestamp("last_record_date").toLocalDateTime()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BalanceReconciliationRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerBalance> findLedgerBalancesAfter(AccountId after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_LEDGER + " ORDER BY account_id LIMIT :limit",
+                    params, LEDGER_BALANCE_MAPPER);
+        }
+        params.addValue("after", after.getValue());
+        return jdbcTemplate.query(SELECT_LEDGER + " WHERE account_id > :after ORDER BY account_id LIMIT :limit",
+                params, LEDGER_BALANCE_MAPPER);
+    }
+
+    @Override
+    public List<LedgerBalance> findLedgerBalances(Collection<AccountId> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = accountIds.stream().map(AccountId::getValue).toList();
+        return jdbcTemplate.query(SELECT_LEDGER + " WHERE account_id IN (:accountIds)",
+                new MapSqlParameterSource("accountIds", ids), LEDGER_BALANCE_MAPPER);
+    }
+
+    @Override
+    @Transactional
+    public void saveDiscrepancies(List<BalanceDiscrepancy> discrepancies) {
+        SqlParameterSource[] batch = discrepancies.stream()
+                .map(discrepancy -> new MapSqlParameterSource()
+                        .addValue("id", UuidV7.randomUuid())
+                        .addValue("runId", discrepancy.runId())
+                        .addValue("accountId", discrepancy.ledgerBalance().accountId().getValue())
+                        .addValue("historyBalance", discrepancy.ledgerBalance().balance().getAmount())
+                        .addValue("accountBalance", discrepancy.isMissingAccount()
+                                ? null : discrepancy.accountBalance().getAmount(), Types.NUMERIC)
+                        .addValue("difference", discrepancy.difference(), Types.NUMERIC)
+                        .addValue("lastTransactionId", discrepancy.ledgerBalance().lastTransactionId())
+                        .addValue("lastRecordDate", discrepancy.ledgerBalance().lastRecordDate())
+                        .addValue("detectedAt", discrepancy.detectedAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_DISCREPANCY, batch);
+    }
+}
@@ -0,0 +1,20 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecordJpaEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordJpaEntity r WHERE r.status = :status AND r.createdAt < :cutoff")
+    int deleteByStatusCreatedBefore(@Param("status") IdempotencyRecordJpaEntity.Status status,
+                                    @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,117 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        // Parcial no banco (WHERE status = 'PENDING'), ver V9; @Index não expressa o predicado
+        @Index(name = "idx_outbox_pending_next_attempt", columnList = "next_attempt_at"),
+        @Index(name = "idx_outbox_status_published_at", columnList = "status, published_at")
+})
+public class NotificationOutboxJpaEntity implements Persistable<UUID> {
+
+    public enum Status {
+        PENDING,
+        PUBLISHED,
+        FAILED
+    }
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "trace_parent", length = 55)
+    private String traceParent;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public NotificationOutboxJpaEntity() {}
+
+    public NotificationOutboxJpaEntity(
+            UUID id,
+            UUID transactionId,
+            String payload,
+            Status status,
+            int attempts,
+            String lastError,
+            LocalDateTime createdAt,
+            LocalDateTime publishedAt) {
+        this.id = id;
+        this.transactionId = transactionId;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.publishedAt = publishedAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
+    @Override
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getTransactionId() { return transactionId; }
+    public void setTransactionId(UUID transactionId) { this.transactionId = transactionId; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+
+    public String getTraceParent() { return traceParent; }
+    public void setTraceParent(String traceParent) { this.traceParent = traceParent; }
+
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+}
@@ -0,0 +1,39 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NotificationOutboxJpaRepository extends JpaRepository<NotificationOutboxJpaEntity, UUID> {
+
+    /**
+     * Locks the pending entries that are due at {@code now}, oldest first.
+     * Entries backing off after a failed publish are skipped until their next
+     * attempt. SKIP LOCKED lets several relay instances drain the outbox
+     * concurrently without publishing twice.
+     */
+    @Query(value = """
+            SELECT * FROM notification_outbox
+             WHERE status = 'PENDING'
+               AND next_attempt_at <= :now
+             ORDER BY next_attempt_at
+             LIMIT :batchSize
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutboxJpaEntity> lockNextPendingBatch(@Param("batchSize") int batchSize,
+                                                           @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxJpaEntity o WHERE o.status = :status AND o.publishedAt < :cutoff")
+    int deleteByStatusAndPublishedBefore(@Param("status") NotificationOutboxJpaEntity.Status status,
+                                         @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,75 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Mantém as partições mensais de {@code transactions} e {@code transaction_history}:
+ * cria as partições dos próximos meses antes que sejam necessárias e desanexa as
+ * que saíram do período de retenção. As funções usadas são criadas pela migração
+ * V3 e são idempotentes, então várias instâncias podem executar o job.
+ */
+@Component
+@ConditionalOnProperty(name = "partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+    private static final List<String> PARTITIONED_TABLES = List.of("transactions", "transaction_history");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public PartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${partitions.maintenance.months-ahead:3}") int monthsAhead,
+            @Value("${partitions.maintenance.retention-months:60}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${partitions.maintenance.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                Integer created = jdbcTemplate.queryForObject(
+                        "SELECT ensure_monthly_partitions(?::text, ?::date, ?::date)",
+                        Integer.class, table, today, today.plusMonths(monthsAhead));
+                if (created != null && created > 0) {
+                    logger.info("Created {} monthly partitions for {}", created, table);
+                }
+
+                if (retentionMonths > 0) {
+                    Integer detached = jdbcTemplate.queryForObject(
+                            "SELECT detach_monthly_partitions_before(?::text, ?::date)",
+                            Integer.class, table, today.minusMonths(retentionMonths));
+                    if (detached != null && detached > 0) {
+                        logger.info("Detached {} partitions older than {} months from {}",
+                                detached, retentionMonths, table);
+                    }
+                }
+            } catch (DataAccessException e) {
+                logger.error("Partition maintenance failed for {}: {}", table, e.getMessage(), e);
+            }
+        }
+    }
+}
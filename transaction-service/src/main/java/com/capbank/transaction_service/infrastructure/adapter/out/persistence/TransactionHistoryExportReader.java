@@ -0,0 +1,72 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Lê o histórico de uma conta com cursor do servidor: o driver do PostgreSQL
+ * só busca em blocos de {@code fetchSize} linhas quando a conexão está dentro
+ * de uma transação (autocommit desligado), então o chamador precisa abrir uma.
+ */
+@Component
+public class TransactionHistoryExportReader {
+
+    private static final String EXPORT_SQL = """
+            SELECT id, account_id, transaction_id, balance_before, balance_after, transaction_amount,
+                   transaction_type, status, description, record_date
+              FROM transaction_history
+             WHERE account_id = ?
+               AND record_date >= ?
+               AND record_date <= ?
+             ORDER BY record_date, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TransactionHistoryExportReader(
+            JdbcTemplate jdbcTemplate,
+            @Value("${transaction-history.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void stream(UUID accountId, LocalDateTime startDate, LocalDateTime endDate,
+                       Consumer<TransactionHistoryJpaEntity> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, accountId);
+            statement.setObject(2, startDate);
+            statement.setObject(3, endDate);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(toEntity(resultSet)));
+    }
+
+    private static TransactionHistoryJpaEntity toEntity(ResultSet resultSet) throws SQLException {
+        return new TransactionHistoryJpaEntity(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("account_id", UUID.class),
+                resultSet.getObject("transaction_id", UUID.class),
+                resultSet.getBigDecimal("balance_before"),
+                resultSet.getBigDecimal("balance_after"),
+                resultSet.getBigDecimal("transaction_amount"),
+                TransactionType.valueOf(resultSet.getString("transaction_type")),
+                TransactionStatus.valueOf(resultSet.getString("status")),
+                resultSet.getString("description"),
+                resultSet.getObject("record_date", LocalDateTime.class)
+        );
+    }
+}
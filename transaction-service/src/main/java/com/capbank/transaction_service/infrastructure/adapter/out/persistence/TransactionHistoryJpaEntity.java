@@ -3,6 +3,7 @@ package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
 import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
 import com.capbank.transaction_service.core.domain.enums.TransactionType;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,11 +11,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "transaction_history", indexes = {
-        @Index(name = "idx_account_id", columnList = "account_id"),
+        @Index(name = "idx_transaction_history_account_date", columnList = "account_id, record_date DESC, id DESC"),
         @Index(name = "idx_transaction_id", columnList = "transaction_id"),
         @Index(name = "idx_record_date", columnList = "record_date")
 })
-public class TransactionHistoryJpaEntity {
+public class TransactionHistoryJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -23,7 +24,7 @@ public class TransactionHistoryJpaEntity {
     @Column(name = "account_id", nullable = false)
     private UUID accountId;
 
-    @Column(name = "transaction_id", nullable = false, unique = true)
+    @Column(name = "transaction_id", nullable = false)
     private UUID transactionId;
 
     @Column(name = "balance_before", nullable = false, precision = 15, scale = 2)
@@ -75,6 +76,18 @@ public class TransactionHistoryJpaEntity {
         this.recordDate = recordDate;
     }
 
+    // Chave atribuída pela aplicação: sem isso o save() faria merge com um SELECT antes do INSERT
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() { return newEntity; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.newEntity = false; }
+
+    @Override
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -9,7 +9,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,7 +21,5 @@ public interface TransactionHistoryJpaRepository extends JpaRepository<Transacti
 
     Optional<TransactionHistoryJpaEntity> findFirstByAccountIdOrderByRecordDateDesc(UUID accountId);
 
-    boolean existsByTransactionId(UUID transactionId);
-
     long countByAccountId(UUID accountId);
 }
\ No newline at end of file
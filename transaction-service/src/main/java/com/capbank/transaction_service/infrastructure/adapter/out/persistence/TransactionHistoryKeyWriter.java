@@ -0,0 +1,36 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Reserva em {@code transaction_history_keys} a chave do histórico de uma
+ * conta numa transação, garantindo a unicidade que a tabela particionada de
+ * histórico não consegue impor. Participa da transação corrente pela conexão
+ * do JdbcTemplate.
+ */
+@Component
+public class TransactionHistoryKeyWriter {
+
+    // ON CONFLICT evita o erro de chave duplicada, que abortaria a transação no Postgres
+    private static final String CLAIM_SQL = """
+            INSERT INTO transaction_history_keys (transaction_id, account_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransactionHistoryKeyWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return {@code false} se a conta já tiver histórico para a transação
+     */
+    public boolean claim(UUID transactionId, UUID accountId) {
+        return jdbcTemplate.update(CLAIM_SQL, transactionId, accountId) > 0;
+    }
+}
@@ -34,9 +34,9 @@ public class TransactionHistoryPersistenceMapper {
                 .id(jpaEntity.getId())
                 .accountId(new AccountId(jpaEntity.getAccountId()))
                 .transactionId(new TransactionId(jpaEntity.getTransactionId()))
-                .balanceBefore(new Money(jpaEntity.getBalanceBefore()))
-                .balanceAfter(new Money(jpaEntity.getBalanceAfter()))
-                .transactionAmount(new Money(jpaEntity.getTransactionAmount()))
+                .balanceBefore(Money.of(jpaEntity.getBalanceBefore()))
+                .balanceAfter(Money.of(jpaEntity.getBalanceAfter()))
+                .transactionAmount(Money.of(jpaEntity.getTransactionAmount()))
                 .transactionType(jpaEntity.getTransactionType())
                 .status(jpaEntity.getStatus())
                 .description(jpaEntity.getDescription())
@@ -44,6 +44,21 @@ public class TransactionHistoryPersistenceMapper {
                 .build();
     }
 
+    public TransactionHistory toDomainEntity(AccountBalanceSnapshotJpaEntity snapshot) {
+        return new TransactionHistory.Builder()
+                .id(snapshot.getLastHistoryId())
+                .accountId(new AccountId(snapshot.getAccountId()))
+                .transactionId(new TransactionId(snapshot.getLastTransactionId()))
+                .balanceBefore(Money.of(snapshot.getBalanceBefore()))
+                .balanceAfter(Money.of(snapshot.getBalance()))
+                .transactionAmount(Money.of(snapshot.getTransactionAmount()))
+                .transactionType(snapshot.getTransactionType())
+                .status(snapshot.getStatus())
+                .description(snapshot.getDescription())
+                .recordDate(snapshot.getLastRecordDate())
+                .build();
+    }
+
     public List<TransactionHistory> toDomainEntityList(List<TransactionHistoryJpaEntity> jpaEntities) {
         return jpaEntities.stream()
                 .map(this::toDomainEntity)
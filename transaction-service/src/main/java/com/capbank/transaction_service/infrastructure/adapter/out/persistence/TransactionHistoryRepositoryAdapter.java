@@ -1,38 +1,77 @@
 package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
 
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.ExportTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.FindTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistoryPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistorySlice;
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
 import com.capbank.transaction_service.core.application.port.out.TransactionHistoryRepositoryPort;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 
 @Repository
 public class TransactionHistoryRepositoryAdapter implements TransactionHistoryRepositoryPort {
 
+    // Limites neutros para o período ausente na exportação
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final TransactionHistoryJpaRepository jpaRepository;
     private final TransactionHistoryPersistenceMapper mapper;
+    private final AccountBalanceSnapshotJpaRepository snapshotRepository;
+    private final AccountBalanceSnapshotWriter snapshotWriter;
+    private final TransactionHistoryKeyWriter keyWriter;
+    private final TransactionHistoryExportReader exportReader;
+    private final EntityManager entityManager;
 
     public TransactionHistoryRepositoryAdapter(
             TransactionHistoryJpaRepository jpaRepository,
-            TransactionHistoryPersistenceMapper mapper) {
+            TransactionHistoryPersistenceMapper mapper,
+            AccountBalanceSnapshotJpaRepository snapshotRepository,
+            AccountBalanceSnapshotWriter snapshotWriter,
+            TransactionHistoryKeyWriter keyWriter,
+            TransactionHistoryExportReader exportReader,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotWriter = snapshotWriter;
+        this.keyWriter = keyWriter;
+        this.exportReader = exportReader;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public TransactionHistory save(TransactionHistory transactionHistory) {
+        if (!keyWriter.claim(transactionHistory.getTransactionId().getValue(),
+                transactionHistory.getAccountId().getValue())) {
+            throw new IllegalArgumentException(
+                    "Histórico de transação já existe para a transação: " + transactionHistory.getTransactionId()
+                            + " na conta: " + transactionHistory.getAccountId());
+        }
+
         TransactionHistoryJpaEntity jpaEntity = mapper.toJpaEntity(transactionHistory);
         TransactionHistoryJpaEntity savedEntity = jpaRepository.save(jpaEntity);
+        snapshotWriter.record(savedEntity);
         return mapper.toDomainEntity(savedEntity);
     }
 
@@ -66,14 +105,58 @@ public class TransactionHistoryRepositoryAdapter implements TransactionHistoryRe
     }
 
     @Override
-    public boolean existsByTransactionId(UUID transactionId) {
-        return jpaRepository.existsByTransactionId(transactionId);
+    public TransactionHistorySlice findByAccountIdWithFiltersAfter(FindTransactionHistoryQuery query, SeekCursor cursor) {
+        Specification<TransactionHistoryJpaEntity> specification = TransactionHistorySpecification.withFilters(
+                query.accountId().getValue(),
+                query.transactionType(),
+                query.startDate(),
+                query.endDate()
+        );
+        if (cursor != null) {
+            specification = specification.and(TransactionHistorySpecification.before(cursor.timestamp(), cursor.id()));
+        }
+
+        // Busca um registro a mais para saber se existe próxima página sem executar count(*)
+        List<TransactionHistoryJpaEntity> rows = findOrderedByDateAndId(specification, query.size() + 1);
+        boolean hasNext = rows.size() > query.size();
+        List<TransactionHistoryJpaEntity> content = hasNext ? rows.subList(0, query.size()) : rows;
+
+        SeekCursor nextCursor = null;
+        if (hasNext) {
+            TransactionHistoryJpaEntity last = content.get(content.size() - 1);
+            nextCursor = new SeekCursor(last.getRecordDate(), last.getId());
+        }
+
+        return new TransactionHistorySlice(mapper.toDomainEntityList(content), query.size(), hasNext, nextCursor);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByAccountId(ExportTransactionHistoryQuery query, Consumer<TransactionHistory> consumer) {
+        exportReader.stream(
+                query.accountId().getValue(),
+                query.startDate() != null ? query.startDate() : MIN_DATE,
+                query.endDate() != null ? query.endDate() : MAX_DATE,
+                entity -> consumer.accept(mapper.toDomainEntity(entity))
+        );
+    }
+
+    /**
+     * Lido apenas do snapshot. Históricos só de registro ({@code processTransaction})
+     * também avançam o snapshot: o {@code balanceAfter} deles é o último saldo
+     * conhecido, então o resultado é o mesmo de buscar o histórico mais recente.
+     */
     @Override
     public Optional<TransactionHistory> findLatestByAccountId(AccountId accountId) {
-        return jpaRepository.findFirstByAccountIdOrderByRecordDateDesc(accountId.getValue())
-                .map(mapper::toDomainEntity);
+        Optional<AccountBalanceSnapshotJpaEntity> snapshot = snapshotRepository.findById(accountId.getValue());
+        // Um histórico desta transação ainda não gravado no snapshot prevalece, salvo se for mais antigo
+        Optional<TransactionHistoryJpaEntity> pending = snapshotWriter.pending(accountId.getValue())
+                .filter(history -> snapshot.isEmpty()
+                        || !history.getRecordDate().isBefore(snapshot.get().getLastRecordDate()));
+        if (pending.isPresent()) {
+            return pending.map(mapper::toDomainEntity);
+        }
+        return snapshot.map(mapper::toDomainEntity);
     }
 
     @Override
@@ -81,6 +164,24 @@ public class TransactionHistoryRepositoryAdapter implements TransactionHistoryRe
         return jpaRepository.countByAccountId(accountId.getValue());
     }
 
+    private List<TransactionHistoryJpaEntity> findOrderedByDateAndId(
+            Specification<TransactionHistoryJpaEntity> specification, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionHistoryJpaEntity> criteriaQuery =
+                criteriaBuilder.createQuery(TransactionHistoryJpaEntity.class);
+        Root<TransactionHistoryJpaEntity> root = criteriaQuery.from(TransactionHistoryJpaEntity.class);
+
+        criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        criteriaQuery.orderBy(
+                criteriaBuilder.desc(root.get("recordDate")),
+                criteriaBuilder.desc(root.get("id"))
+        );
+
+        return entityManager.createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     private Pageable createPageable(FindTransactionHistoryQuery query) {
         Sort.Direction direction = Sort.Direction.fromString(query.sortDirection());
         Sort sort = Sort.by(direction, query.sortBy());
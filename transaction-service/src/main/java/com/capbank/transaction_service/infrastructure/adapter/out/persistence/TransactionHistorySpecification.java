@@ -42,6 +42,19 @@ public class TransactionHistorySpecification {
         };
     }
 
+    /**
+     * Registros estritamente anteriores ao cursor na ordem (recordDate DESC, id DESC).
+     */
+    public static Specification<TransactionHistoryJpaEntity> before(LocalDateTime recordDate, UUID id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("recordDate"), recordDate),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("recordDate"), recordDate),
+                        criteriaBuilder.lessThan(root.get("id"), id)
+                )
+        );
+    }
+
     public static Specification<TransactionHistoryJpaEntity> byAccountId(UUID accountId) {
         return (root, query, criteriaBuilder) -> {
             query.orderBy(criteriaBuilder.desc(root.get("recordDate")));
@@ -3,6 +3,7 @@ package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
 import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
 import com.capbank.transaction_service.core.domain.enums.TransactionType;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,12 +12,12 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "transactions", indexes = {
-        @Index(name = "idx_source_account", columnList = "source_account_id"),
-        @Index(name = "idx_target_account", columnList = "target_account_id"),
+        @Index(name = "idx_transactions_source_account_date", columnList = "source_account_id, transaction_date DESC, id DESC"),
+        @Index(name = "idx_transactions_target_account_date", columnList = "target_account_id, transaction_date DESC, id DESC"),
         @Index(name = "idx_transaction_date", columnList = "transaction_date"),
         @Index(name = "idx_status", columnList = "status")
 })
-public class TransactionJpaEntity {
+public class TransactionJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -73,6 +74,17 @@ public class TransactionJpaEntity {
         this.createdAt = LocalDateTime.now();
     }
 
+    // Chave atribuída pela aplicação: sem isso o save() faria merge com um SELECT antes do INSERT
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() { return newEntity; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.newEntity = false; }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -85,6 +97,7 @@ public class TransactionJpaEntity {
         }
     }
 
+    @Override
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -6,16 +6,85 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, UUID>, JpaSpecificationExecutor<TransactionJpaEntity> {
 
+    /**
+     * Filtros comuns aos dois ramos da listagem por conta. Filtros ausentes chegam
+     * como valores neutros (string vazia, datas extremas) em vez de null, para que
+     * o tipo de cada parâmetro seja sempre conhecido pelo driver.
+     */
+    String ACCOUNT_LISTING_FILTERS = """
+               AND t.transaction_date BETWEEN :startDate AND :endDate
+               AND (:transactionType = '' OR t.transaction_type = :transactionType)
+               AND (:status = '' OR t.status = :status)
+            """;
+
+    /**
+     * Listagem por conta como UNION ALL de duas leituras ordenadas pelos índices
+     * (source_account_id, transaction_date DESC, id DESC) e (target_account_id, ...).
+     * O segundo ramo ignora transferências da conta para ela mesma, já devolvidas
+     * pelo primeiro.
+     */
+    @Query(value = """
+            SELECT u.* FROM (
+                (SELECT t.* FROM transactions t
+                  WHERE t.source_account_id = :accountId
+                    AND (t.transaction_date, t.id) < (:cursorDate, :cursorId)
+            """ + ACCOUNT_LISTING_FILTERS + """
+                  ORDER BY t.transaction_date DESC, t.id DESC
+                  LIMIT :branchLimit)
+                UNION ALL
+                (SELECT t.* FROM transactions t
+                  WHERE t.target_account_id = :accountId
+                    AND t.source_account_id IS DISTINCT FROM :accountId
+                    AND (t.transaction_date, t.id) < (:cursorDate, :cursorId)
+            """ + ACCOUNT_LISTING_FILTERS + """
+                  ORDER BY t.transaction_date DESC, t.id DESC
+                  LIMIT :branchLimit)
+            ) u
+            ORDER BY u.transaction_date DESC, u.id DESC
+            OFFSET :offset
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TransactionJpaEntity> findAccountListing(@Param("accountId") UUID accountId,
+                                                  @Param("transactionType") String transactionType,
+                                                  @Param("status") String status,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate,
+                                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                                  @Param("cursorId") UUID cursorId,
+                                                  @Param("branchLimit") int branchLimit,
+                                                  @Param("offset") int offset,
+                                                  @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT (SELECT count(*) FROM transactions t
+                     WHERE t.source_account_id = :accountId
+            """ + ACCOUNT_LISTING_FILTERS + """
+                   )
+                 + (SELECT count(*) FROM transactions t
+                     WHERE t.target_account_id = :accountId
+                       AND t.source_account_id IS DISTINCT FROM :accountId
+            """ + ACCOUNT_LISTING_FILTERS + """
+                   )
+            """, nativeQuery = true)
+    long countAccountListing(@Param("accountId") UUID accountId,
+                             @Param("transactionType") String transactionType,
+                             @Param("status") String status,
+                             @Param("startDate") LocalDateTime startDate,
+                             @Param("endDate") LocalDateTime endDate);
+
     List<TransactionJpaEntity> findBySourceAccountIdOrderByTransactionDateDesc(UUID sourceAccountId);
 
     List<TransactionJpaEntity> findByTargetAccountIdOrderByTransactionDateDesc(UUID targetAccountId);
@@ -30,4 +99,17 @@ public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEn
     List<TransactionJpaEntity> findByStatusOrderByTransactionDateDesc(TransactionStatus status);
 
     List<TransactionJpaEntity> findByTransactionTypeOrderByTransactionDateDesc(TransactionType transactionType);
-}
\ No newline at end of file
+
+    /**
+     * Status atual da transação, bloqueando a linha até o fim da transação para
+     * que a troca de status e os agregados sejam atualizados sem corrida.
+     */
+    @Query(value = "SELECT t.status FROM transactions t WHERE t.id = :id FOR UPDATE", nativeQuery = true)
+    Optional<String> findStatusForUpdate(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TransactionJpaEntity t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id = :id")
+    int updateStatus(@Param("id") UUID id,
+                     @Param("status") TransactionStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -19,7 +19,7 @@ public class TransactionPersistenceMapper {
                 transaction.getSourceAccountId() != null ? transaction.getSourceAccountId().getValue() : null,
                 transaction.getTargetAccountId() != null ? transaction.getTargetAccountId().getValue() : null,
                 transaction.getType(),
-                transaction.getAmount().getAmount().setScale(2),
+                transaction.getAmount().getAmount(),
                 transaction.getDescription(),
                 transaction.getTransactionDate(),
                 transaction.getStatus()
@@ -34,7 +34,7 @@ public class TransactionPersistenceMapper {
                 .targetAccountId(jpaEntity.getTargetAccountId() != null ?
                     new AccountId(jpaEntity.getTargetAccountId()) : null)
                 .type(jpaEntity.getTransactionType())
-                .amount(new Money(jpaEntity.getAmount()))
+                .amount(Money.of(jpaEntity.getAmount()))
                 .description(jpaEntity.getDescription())
                 .transactionDate(jpaEntity.getTransactionDate())
                 .status(jpaEntity.getStatus())
@@ -2,8 +2,11 @@ package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
 
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.FindTransactionQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionSlice;
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
 import com.capbank.transaction_service.core.application.port.out.TransactionRepositoryPort;
 import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
 import org.springframework.data.domain.Page;
@@ -11,28 +14,53 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
 
+    // Valores neutros para filtros ausentes na consulta nativa da listagem por conta
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
     private final TransactionJpaRepository jpaRepository;
     private final TransactionPersistenceMapper mapper;
+    private final TransactionCopyWriter copyWriter;
+    private final AccountTransactionAggregator aggregator;
 
     public TransactionRepositoryAdapter(
             TransactionJpaRepository jpaRepository,
-            TransactionPersistenceMapper mapper) {
+            TransactionPersistenceMapper mapper,
+            TransactionCopyWriter copyWriter,
+            AccountTransactionAggregator aggregator) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.copyWriter = copyWriter;
+        this.aggregator = aggregator;
     }
 
     @Override
+    @Transactional
     public Transaction save(Transaction transaction) {
         TransactionJpaEntity jpaEntity = mapper.toJpaEntity(transaction);
         TransactionJpaEntity savedEntity = jpaRepository.save(jpaEntity);
-        return mapper.toDomainEntity(savedEntity);
+        Transaction saved = mapper.toDomainEntity(savedEntity);
+        aggregator.recordCreated(saved);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public long insertAll(List<Transaction> transactions) {
+        long inserted = copyWriter.copy(transactions);
+        aggregator.recordCreated(transactions);
+        return inserted;
     }
 
     @Override
@@ -50,9 +78,12 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
 
     @Override
     public TransactionPage findByAccountWithFilters(FindTransactionQuery query) {
+        if (isAccountListingOrder(query)) {
+            return findAccountListingPage(query);
+        }
+
         Pageable pageable = createPageable(query);
 
-        
         var specification = TransactionSpecification.withFiltersForAccount(
                 query.accountId().getValue(),
                 query.transactionType(),
@@ -67,15 +98,44 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     }
 
     @Override
-    public Transaction update(Transaction transaction) {
-       
-        if (!jpaRepository.existsById(transaction.getId().getValue())) {
-            throw new IllegalArgumentException("Transação não encontrada: " + transaction.getId());
+    public TransactionSlice findByAccountWithFiltersAfter(FindTransactionQuery query, SeekCursor cursor) {
+        // Busca um registro a mais para saber se existe próxima página sem executar count(*)
+        int limit = query.size() + 1;
+        List<TransactionJpaEntity> rows = jpaRepository.findAccountListing(
+                query.accountId().getValue(),
+                filterValue(query.transactionType()),
+                filterValue(query.transactionStatus()),
+                startDateOrMin(query),
+                endDateOrMax(query),
+                cursor != null ? cursor.timestamp() : MAX_DATE,
+                cursor != null ? cursor.id() : MAX_UUID,
+                limit,
+                0,
+                limit
+        );
+        boolean hasNext = rows.size() > query.size();
+        List<TransactionJpaEntity> content = hasNext ? rows.subList(0, query.size()) : rows;
+
+        SeekCursor nextCursor = null;
+        if (hasNext) {
+            TransactionJpaEntity last = content.get(content.size() - 1);
+            nextCursor = new SeekCursor(last.getTransactionDate(), last.getId());
         }
 
-        TransactionJpaEntity jpaEntity = mapper.toJpaEntity(transaction);
-        TransactionJpaEntity updatedEntity = jpaRepository.save(jpaEntity);
-        return mapper.toDomainEntity(updatedEntity);
+        return new TransactionSlice(mapper.toDomainEntityList(content), query.size(), hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional
+    public Transaction update(Transaction transaction) {
+        // Só o status é mutável; o UPDATE direto evita o SELECT do merge e preserva created_at.
+        // O status anterior é lido com bloqueio para mover a transação entre os agregados.
+        TransactionStatus previousStatus = jpaRepository.findStatusForUpdate(transaction.getId().getValue())
+                .map(TransactionStatus::valueOf)
+                .orElseThrow(() -> new IllegalArgumentException("Transação não encontrada: " + transaction.getId()));
+        jpaRepository.updateStatus(transaction.getId().getValue(), transaction.getStatus(), LocalDateTime.now());
+        aggregator.recordStatusChange(transaction, previousStatus);
+        return transaction;
     }
 
     @Override
@@ -88,6 +148,51 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
         return jpaRepository.existsById(transactionId.getValue());
     }
 
+    /**
+     * Ordenação padrão da listagem (data decrescente), atendida pelo UNION ALL
+     * sobre os índices compostos. Outras ordenações seguem pela Specification.
+     */
+    private boolean isAccountListingOrder(FindTransactionQuery query) {
+        return "transactionDate".equals(query.sortBy()) && "DESC".equalsIgnoreCase(query.sortDirection());
+    }
+
+    private TransactionPage findAccountListingPage(FindTransactionQuery query) {
+        int offset = query.page() * query.size();
+        UUID accountId = query.accountId().getValue();
+        String transactionType = filterValue(query.transactionType());
+        String status = filterValue(query.transactionStatus());
+        LocalDateTime startDate = startDateOrMin(query);
+        LocalDateTime endDate = endDateOrMax(query);
+
+        List<TransactionJpaEntity> rows = jpaRepository.findAccountListing(
+                accountId, transactionType, status, startDate, endDate,
+                MAX_DATE, MAX_UUID, offset + query.size(), offset, query.size());
+        long totalElements = jpaRepository.countAccountListing(accountId, transactionType, status, startDate, endDate);
+        int totalPages = (int) ((totalElements + query.size() - 1) / query.size());
+
+        return new TransactionPage(
+                mapper.toDomainEntityList(rows),
+                query.page(),
+                query.size(),
+                totalElements,
+                totalPages,
+                query.page() == 0,
+                query.page() + 1 >= totalPages
+        );
+    }
+
+    private static String filterValue(Enum<?> filter) {
+        return filter != null ? filter.name() : "";
+    }
+
+    private static LocalDateTime startDateOrMin(FindTransactionQuery query) {
+        return query.startDate() != null ? query.startDate() : MIN_DATE;
+    }
+
+    private static LocalDateTime endDateOrMax(FindTransactionQuery query) {
+        return query.endDate() != null ? query.endDate() : MAX_DATE;
+    }
+
     private Pageable createPageable(FindTransactionQuery query) {
         Sort.Direction direction = Sort.Direction.fromString(query.sortDirection());
         Sort sort = Sort.by(direction, query.sortBy());
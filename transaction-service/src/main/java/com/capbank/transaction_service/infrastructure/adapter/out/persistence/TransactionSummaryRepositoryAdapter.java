@@ -0,0 +1,37 @@
+package com.capbank.transaction_service.infrastructure.adapter.out.persistence;
+
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.SummaryBucket;
+import com.capbank.transaction_service.core.application.port.out.TransactionSummaryRepositoryPort;
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class TransactionSummaryRepositoryAdapter implements TransactionSummaryRepositoryPort {
+
+    private final AccountTransactionAggregateJpaRepository jpaRepository;
+
+    public TransactionSummaryRepositoryAdapter(AccountTransactionAggregateJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<SummaryBucket> findBuckets(AccountId accountId, SummaryGranularity granularity,
+                                           LocalDate fromPeriod, LocalDate toPeriod) {
+        return jpaRepository.findByAccountAndPeriod(accountId.getValue(), granularity, fromPeriod, toPeriod)
+                .stream()
+                .map(aggregate -> new SummaryBucket(
+                        aggregate.getPeriodStart(),
+                        aggregate.getDirection(),
+                        aggregate.getTransactionType(),
+                        aggregate.getStatus(),
+                        aggregate.getTransactionCount(),
+                        Money.of(aggregate.getTotalAmount())
+                ))
+                .toList();
+    }
+}
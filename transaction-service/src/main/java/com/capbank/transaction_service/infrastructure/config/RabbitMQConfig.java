@@ -0,0 +1,26 @@
+package com.capbank.transaction_service.infrastructure.config;
+
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${rabbitmq.exchange.notification}")
+    private String notificationExchange;
+
+    /**
+     * Declared here as well so the outbox relay can publish before
+     * notification-service has started; the declaration is idempotent.
+     */
+    @Bean
+    public TopicExchange notificationExchange() {
+        return ExchangeBuilder
+                .topicExchange(notificationExchange)
+                .durable(true)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.capbank.transaction_service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Mede periodicamente o atraso de replicação e libera a réplica para leitura
+ * apenas enquanto ele estiver abaixo de {@code datasource.replica.max-lag}.
+ * Até a primeira medição, ou se a réplica não responder, as leituras seguem
+ * para o primário.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Réplica sem WAL pendente não está atrasada, mesmo que o primário esteja ocioso;
+    // um servidor fora de recuperação (stand-in local apontando para o primário) tem atraso zero
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE((EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private volatile long lagMillis = -1;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLag.toMillis();
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Atraso de replicação medido em milissegundos (-1 quando desconhecido)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("1 quando as leituras somente leitura estão indo para a réplica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT2S}")
+    public void check() {
+        try {
+            Long lag = replica.queryForObject(LAG_QUERY, Long.class);
+            lagMillis = lag != null ? lag : -1;
+            setUsable(lag != null && lag <= maxLagMillis);
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            if (replicaUsable) {
+                logger.warn("Replica lag check failed: {}", e.getMessage());
+            }
+            setUsable(false);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    private void setUsable(boolean usable) {
+        if (usable != replicaUsable) {
+            if (usable) {
+                logger.info("Routing read-only transactions to replica (lag {} ms)", lagMillis);
+            } else {
+                logger.warn("Routing read-only transactions to primary (replica lag {} ms, limit {} ms)",
+                        lagMillis, maxLagMillis);
+            }
+        }
+        replicaUsable = usable;
+    }
+}
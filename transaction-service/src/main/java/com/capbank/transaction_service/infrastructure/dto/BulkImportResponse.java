@@ -0,0 +1,27 @@
+package com.capbank.transaction_service.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkImportResponse(
+        @JsonProperty("total_rows")
+        long totalRows,
+
+        @JsonProperty("imported_rows")
+        long importedRows,
+
+        @JsonProperty("rejected_rows")
+        long rejectedRows,
+
+        @JsonProperty("errors")
+        List<RowErrorResponse> errors
+) {
+    public record RowErrorResponse(
+            @JsonProperty("line")
+            long line,
+
+            @JsonProperty("message")
+            String message
+    ) {}
+}
@@ -0,0 +1,26 @@
+package com.capbank.transaction_service.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Uma linha do NDJSON de importação; os campos são validados no caso de uso
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BulkTransactionRow(
+        @JsonProperty("transaction_type")
+        String transactionType,
+
+        @JsonProperty("source_account_id")
+        String sourceAccountId,
+
+        @JsonProperty("target_account_id")
+        String targetAccountId,
+
+        @JsonProperty("amount")
+        String amount,
+
+        @JsonProperty("description")
+        String description,
+
+        @JsonProperty("transaction_date")
+        String transactionDate
+) {}
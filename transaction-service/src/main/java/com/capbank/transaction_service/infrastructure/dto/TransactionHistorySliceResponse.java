@@ -0,0 +1,19 @@
+package com.capbank.transaction_service.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record TransactionHistorySliceResponse(
+        @JsonProperty("content")
+        List<TransactionHistoryResponse> content,
+
+        @JsonProperty("page_size")
+        int pageSize,
+
+        @JsonProperty("has_next")
+        boolean hasNext,
+
+        @JsonProperty("next_cursor")
+        String nextCursor
+) {}
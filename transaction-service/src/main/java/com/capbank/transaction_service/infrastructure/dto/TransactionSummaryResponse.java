@@ -0,0 +1,52 @@
+package com.capbank.transaction_service.infrastructure.dto;
+
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.enums.TransactionDirection;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record TransactionSummaryResponse(
+        @JsonProperty("account_id")
+        String accountId,
+
+        @JsonProperty("granularity")
+        SummaryGranularity granularity,
+
+        @JsonProperty("start_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate startDate,
+
+        @JsonProperty("end_date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate endDate,
+
+        @JsonProperty("buckets")
+        List<BucketResponse> buckets
+) {
+    public record BucketResponse(
+            @JsonProperty("period_start")
+            @JsonFormat(pattern = "yyyy-MM-dd")
+            LocalDate periodStart,
+
+            @JsonProperty("direction")
+            TransactionDirection direction,
+
+            @JsonProperty("transaction_type")
+            TransactionType transactionType,
+
+            @JsonProperty("status")
+            TransactionStatus status,
+
+            @JsonProperty("transaction_count")
+            long transactionCount,
+
+            @JsonProperty("total_amount")
+            BigDecimal totalAmount
+    ) {}
+}
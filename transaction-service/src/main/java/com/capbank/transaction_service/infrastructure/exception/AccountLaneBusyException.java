@@ -0,0 +1,7 @@
+package com.capbank.transaction_service.infrastructure.exception;
+
+public class AccountLaneBusyException extends RuntimeException {
+    public AccountLaneBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.capbank.transaction_service.infrastructure.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
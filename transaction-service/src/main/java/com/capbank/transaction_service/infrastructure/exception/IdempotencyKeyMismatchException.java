@@ -0,0 +1,7 @@
+package com.capbank.transaction_service.infrastructure.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,277 @@
+package com.capbank.transaction_service.infrastructure.idempotency;
+
+import com.capbank.transaction_service.core.application.exception.TransactionRejectedException;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.IdempotencyRecordJpaEntity;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.IdempotencyRecordJpaRepository;
+import com.capbank.transaction_service.infrastructure.dto.TransactionResultResponse;
+import com.capbank.transaction_service.infrastructure.exception.AccountLaneBusyException;
+import com.capbank.transaction_service.infrastructure.exception.IdempotencyKeyConflictException;
+import com.capbank.transaction_service.infrastructure.exception.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Guarda o resultado das operações identificadas por {@code Idempotency-Key}.
+ * Um cache em memória limitado atende as repetições mais recentes; a tabela
+ * {@code idempotency_keys} é a fonte de verdade e serializa requisições
+ * concorrentes com a mesma chave através da chave primária.
+ *
+ * Uma chave só é liberada automaticamente quando a operação é recusada antes
+ * de alterar saldos ({@link TransactionRejectedException}, faixa da conta
+ * ocupada). Qualquer outra falha pode acontecer depois de o bankaccount-service
+ * ter aplicado a alteração (histórico, outbox, commit local ou timeout de
+ * leitura), então a chave fica como FAILED. Essas chaves, e as que ficam em
+ * andamento (processo interrompido ou falha ao gravar o resultado), recebem 409
+ * nas repetições até que um operador verifique a transação e remova a linha de
+ * {@code idempotency_keys}.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int COMPLETE_ATTEMPTS = 3;
+
+    private final IdempotencyRecordJpaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Cache<String, CachedResult> cache;
+
+    public IdempotencyStore(
+            IdempotencyRecordJpaRepository repository,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout,
+            @Value("${idempotency.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Executa a operação uma única vez por chave. Repetições com a mesma chave e
+     * o mesmo corpo devolvem o resultado armazenado sem executar a operação.
+     */
+    public Outcome execute(String idempotencyKey, String operation, Object request,
+                           Supplier<TransactionResultResponse> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new Outcome(action.get(), false);
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key não pode ter mais de " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        String requestHash = fingerprint(operation, request);
+
+        CachedResult cached = cache.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            ensureSameRequest(idempotencyKey, cached.requestHash(), requestHash);
+            logger.info("Replaying cached result for idempotency key: {}", idempotencyKey);
+            return new Outcome(cached.response(), true);
+        }
+
+        Optional<TransactionResultResponse> stored = findCompleted(idempotencyKey, requestHash);
+        if (stored.isPresent()) {
+            return new Outcome(stored.get(), true);
+        }
+
+        IdempotencyRecordJpaEntity record = claim(idempotencyKey, operation, requestHash);
+        if (record == null) {
+            return findCompleted(idempotencyKey, requestHash)
+                    .map(response -> new Outcome(response, true))
+                    .orElseThrow(() -> inProgress(idempotencyKey));
+        }
+
+        TransactionResultResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            if (rejectedBeforeApplying(e)) {
+                repository.deleteById(idempotencyKey);
+            } else {
+                fail(record, e);
+            }
+            throw e;
+        }
+
+        complete(record, response);
+        cache.put(idempotencyKey, new CachedResult(requestHash, response));
+        return new Outcome(response, false);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int removed = repository.deleteByStatusCreatedBefore(
+                IdempotencyRecordJpaEntity.Status.COMPLETED, LocalDateTime.now().minus(ttl));
+        if (removed > 0) {
+            logger.info("Removed {} expired idempotency keys", removed);
+        }
+    }
+
+    private Optional<TransactionResultResponse> findCompleted(String idempotencyKey, String requestHash) {
+        Optional<IdempotencyRecordJpaEntity> existing = repository.findById(idempotencyKey);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IdempotencyRecordJpaEntity record = existing.get();
+        ensureSameRequest(idempotencyKey, record.getRequestHash(), requestHash);
+
+        if (record.getStatus() == IdempotencyRecordJpaEntity.Status.COMPLETED) {
+            TransactionResultResponse response = deserialize(record.getResponseBody());
+            cache.put(idempotencyKey, new CachedResult(requestHash, response));
+            logger.info("Replaying stored result for idempotency key: {}", idempotencyKey);
+            return Optional.of(response);
+        }
+
+        if (record.getStatus() == IdempotencyRecordJpaEntity.Status.FAILED) {
+            throw new IdempotencyKeyConflictException(
+                    "Requisição com a mesma Idempotency-Key falhou e pode ter sido aplicada; aguarda verificação: "
+                            + idempotencyKey);
+        }
+
+        if (record.getCreatedAt().isBefore(LocalDateTime.now().minus(inProgressTimeout))) {
+            logger.error("Idempotency key {} has been in progress since {}; the operation may have been applied "
+                    + "and the key needs manual resolution", idempotencyKey, record.getCreatedAt());
+            throw new IdempotencyKeyConflictException(
+                    "Requisição com a mesma Idempotency-Key não foi concluída e aguarda verificação: " + idempotencyKey);
+        }
+
+        throw inProgress(idempotencyKey);
+    }
+
+    private IdempotencyRecordJpaEntity claim(String idempotencyKey, String operation, String requestHash) {
+        try {
+            return repository.saveAndFlush(new IdempotencyRecordJpaEntity(
+                    idempotencyKey,
+                    operation,
+                    requestHash,
+                    IdempotencyRecordJpaEntity.Status.IN_PROGRESS,
+                    null,
+                    LocalDateTime.now(),
+                    null
+            ));
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Idempotency key already claimed by a concurrent request: {}", idempotencyKey);
+            return null;
+        }
+    }
+
+    /**
+     * A operação já foi aplicada quando chega aqui, então a falha ao gravar o
+     * resultado não pode ser engolida: a gravação é repetida e, se continuar
+     * falhando, o erro sobe com a chave ainda em andamento, bloqueando novas
+     * execuções até a verificação manual.
+     */
+    private void complete(IdempotencyRecordJpaEntity record, TransactionResultResponse response) {
+        String responseBody;
+        try {
+            responseBody = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize result for idempotency key "
+                    + record.getIdempotencyKey(), e);
+        }
+        record.setResponseBody(responseBody);
+        record.setStatus(IdempotencyRecordJpaEntity.Status.COMPLETED);
+        record.setCompletedAt(LocalDateTime.now());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                repository.save(record);
+                return;
+            } catch (DataAccessException e) {
+                if (attempt >= COMPLETE_ATTEMPTS) {
+                    logger.error("Failed to store result for idempotency key {} after {} attempts: {}",
+                            record.getIdempotencyKey(), attempt, e.getMessage(), e);
+                    throw e;
+                }
+                logger.warn("Failed to store result for idempotency key {} (attempt {}): {}",
+                        record.getIdempotencyKey(), attempt, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean rejectedBeforeApplying(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionRejectedException || cause instanceof AccountLaneBusyException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fail(IdempotencyRecordJpaEntity record, RuntimeException failure) {
+        logger.error("Operation for idempotency key {} failed and may have been applied; the key needs manual "
+                + "resolution: {}", record.getIdempotencyKey(), failure.getMessage());
+        record.setStatus(IdempotencyRecordJpaEntity.Status.FAILED);
+        record.setCompletedAt(LocalDateTime.now());
+        try {
+            repository.save(record);
+        } catch (DataAccessException e) {
+            // a chave continua em andamento, o que também bloqueia novas execuções
+            logger.error("Failed to mark idempotency key {} as failed: {}", record.getIdempotencyKey(), e.getMessage());
+        }
+    }
+
+    private void ensureSameRequest(String idempotencyKey, String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(
+                    "Idempotency-Key já utilizada com uma requisição diferente: " + idempotencyKey);
+        }
+    }
+
+    private IdempotencyKeyConflictException inProgress(String idempotencyKey) {
+        return new IdempotencyKeyConflictException(
+                "Requisição com a mesma Idempotency-Key ainda em processamento: " + idempotencyKey);
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+
+    private TransactionResultResponse deserialize(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, TransactionResultResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored idempotent response", e);
+        }
+    }
+
+    public record Outcome(TransactionResultResponse response, boolean replayed) {}
+
+    private record CachedResult(String requestHash, TransactionResultResponse response) {}
+}
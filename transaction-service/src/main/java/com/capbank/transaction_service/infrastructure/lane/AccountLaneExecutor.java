@@ -0,0 +1,179 @@
+package com.capbank.transaction_service.infrastructure.lane;
+
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.infrastructure.exception.AccountLaneBusyException;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Serializa as operações de uma mesma conta: cada conta é mapeada por hash
+ * para uma faixa com um único executor e fila limitada, então operações da
+ * mesma conta rodam uma após a outra e contas diferentes seguem em paralelo.
+ *
+ * A garantia vale apenas dentro da instância; entre réplicas o débito
+ * condicional do bankaccount-service continua sendo a proteção de saldo.
+ *
+ * O contexto da thread chamadora (observação, trace corrente e MDC) é
+ * restaurado na faixa, então a operação continua o mesmo trace e seus logs
+ * levam os mesmos identificadores da requisição.
+ */
+@Component
+public class AccountLaneExecutor {
+
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int ABANDONED = 2;
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Duration queueTimeout;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public AccountLaneExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${account-lanes.count:256}") int laneCount,
+            @Value("${account-lanes.queue-capacity:64}") int queueCapacity,
+            @Value("${account-lanes.queue-timeout:PT5S}") Duration queueTimeout) {
+        if (laneCount <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("account-lanes.count e account-lanes.queue-capacity devem ser positivos");
+        }
+        this.queueTimeout = queueTimeout;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            // as operações fazem I/O bloqueante (HTTP e banco); threads virtuais mantêm as faixas baratas
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    Thread.ofVirtual().name("account-lane-" + i).factory());
+        }
+
+        this.waitTimer = Timer.builder("account.lane.wait")
+                .description("Tempo na fila da faixa da conta até a operação começar")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("account.lane.rejected")
+                .description("Operações recusadas por faixa cheia ou espera esgotada")
+                .register(meterRegistry);
+        Gauge.builder("account.lane.queue.depth", this, AccountLaneExecutor::totalQueueDepth)
+                .description("Operações aguardando em todas as faixas")
+                .register(meterRegistry);
+        Gauge.builder("account.lane.queue.depth.max", this, AccountLaneExecutor::maxQueueDepth)
+                .description("Maior fila entre as faixas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa {@code operation} na faixa da conta e aguarda o resultado.
+     * Exceções da operação são repassadas ao chamador como foram lançadas.
+     *
+     * @throws AccountLaneBusyException se a fila da faixa estiver cheia ou a
+     *         operação não começar dentro de {@code account-lanes.queue-timeout}
+     */
+    public <T> T execute(AccountId accountId, Supplier<T> operation) {
+        ThreadPoolExecutor lane = lanes[Math.floorMod(accountId.getValue().hashCode(), lanes.length)];
+        AtomicInteger state = new AtomicInteger(PENDING);
+        long enqueuedAt = System.nanoTime();
+        ContextSnapshot callerContext = CONTEXT_SNAPSHOTS.captureAll();
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+
+        Future<T> future;
+        try {
+            future = lane.submit(() -> {
+                if (!state.compareAndSet(PENDING, STARTED)) {
+                    return null;
+                }
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                if (callerMdc != null) {
+                    MDC.setContextMap(callerMdc);
+                }
+                try (ContextSnapshot.Scope scope = callerContext.setThreadLocals()) {
+                    return operation.get();
+                } finally {
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new AccountLaneBusyException("Muitas operações em andamento para a conta " + accountId);
+        }
+
+        try {
+            try {
+                return future.get(queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (state.compareAndSet(PENDING, ABANDONED)) {
+                    rejectedCounter.increment();
+                    throw new AccountLaneBusyException("Muitas operações em andamento para a conta " + accountId);
+                }
+                // já começou: a operação precisa terminar para o resultado não se perder
+                return future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a faixa da conta " + accountId, e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Operação cancelada na faixa da conta " + accountId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.awaitTermination(30, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double totalQueueDepth() {
+        long total = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            total += lane.getQueue().size();
+        }
+        return total;
+    }
+
+    private double maxQueueDepth() {
+        int max = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            max = Math.max(max, lane.getQueue().size());
+        }
+        return max;
+    }
+}
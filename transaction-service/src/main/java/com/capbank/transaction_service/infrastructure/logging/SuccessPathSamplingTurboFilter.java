@@ -0,0 +1,81 @@
+package com.capbank.transaction_service.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Samples INFO and lower events of the application loggers, keeping WARN and
+ * ERROR in full. The decision is a hash of the request's trace id (or request
+ * id, or transaction id), so a sampled request keeps all of its lines and an
+ * unsampled one drops them all, consistently across services sharing the
+ * trace. Events outside a request (no key in the MDC) are never sampled.
+ *
+ * Runs as a turbo filter, before the event and its message are built, so
+ * dropped lines cost only the hash. Configured in {@code logback-spring.xml}:
+ * {@code successRate} between 0 and 1 (1 disables sampling) and
+ * {@code loggerPrefix} for the loggers it applies to.
+ */
+public class SuccessPathSamplingTurboFilter extends TurboFilter {
+
+    private static final String[] SAMPLING_KEYS = {"traceId", RequestIdMdcFilter.REQUEST_ID_MDC_KEY, "transactionId"};
+    private static final int BUCKETS = 10_000;
+
+    private double successRate = 1.0;
+    private String loggerPrefix = "";
+    private int sampledBuckets = BUCKETS;
+
+    @Override
+    public void start() {
+        if (successRate < 0.0 || successRate > 1.0) {
+            addError("successRate must be between 0 and 1, was " + successRate);
+            return;
+        }
+        sampledBuckets = (int) Math.round(successRate * BUCKETS);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || sampledBuckets >= BUCKETS || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        String key = samplingKey();
+        if (key == null) {
+            return FilterReply.NEUTRAL;
+        }
+        return Math.floorMod(mix(key.hashCode()), BUCKETS) < sampledBuckets ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    // Finalizador do MurmurHash3: ids sequenciais têm hashCode próximos e cairiam nos mesmos buckets
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static String samplingKey() {
+        for (String mdcKey : SAMPLING_KEYS) {
+            String value = MDC.get(mdcKey);
+            if (value != null && !value.isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public void setSuccessRate(double successRate) {
+        this.successRate = successRate;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
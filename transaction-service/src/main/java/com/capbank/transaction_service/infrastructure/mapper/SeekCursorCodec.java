@@ -0,0 +1,50 @@
+package com.capbank.transaction_service.infrastructure.mapper;
+
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Converte o {@link SeekCursor} no token opaco devolvido aos clientes como
+ * {@code next_cursor}. O formato interno pode mudar sem quebrar a API.
+ */
+public final class SeekCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private SeekCursorCodec() {
+    }
+
+    public static String encode(SeekCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.timestamp() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token nulo ou vazio representa a primeira página.
+     */
+    public static SeekCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new SeekCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
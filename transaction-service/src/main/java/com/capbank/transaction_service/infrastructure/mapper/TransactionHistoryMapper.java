@@ -2,6 +2,7 @@ package com.capbank.transaction_service.infrastructure.mapper;
 
 import com.capbank.transaction_service.core.application.port.in.CreateTransactionHistoryUseCase.CreateTransactionHistoryCommand;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistoryPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistorySlice;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.Money;
@@ -9,6 +10,7 @@ import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
 import com.capbank.transaction_service.infrastructure.dto.CreateTransactionHistoryRequest;
 import com.capbank.transaction_service.infrastructure.dto.TransactionHistoryPageResponse;
 import com.capbank.transaction_service.infrastructure.dto.TransactionHistoryResponse;
+import com.capbank.transaction_service.infrastructure.dto.TransactionHistorySliceResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,12 +19,15 @@ import java.util.List;
 @Component
 public class TransactionHistoryMapper {
 
+    public static final String CSV_HEADER =
+            "id,transaction_id,transaction_type,status,transaction_amount,balance_before,balance_after,description,record_date";
+
     public CreateTransactionHistoryCommand toCommand(CreateTransactionHistoryRequest request) {
         return new CreateTransactionHistoryCommand(
                 new AccountId(request.accountId()),
                 new TransactionId(request.transactionId()),
-                new Money(request.balanceBefore()),
-                new Money(request.transactionAmount()),
+                Money.of(request.balanceBefore()),
+                Money.of(request.transactionAmount()),
                 request.transactionType(),
                 request.description()
         );
@@ -43,6 +48,18 @@ public class TransactionHistoryMapper {
         );
     }
 
+    // Linha do extrato em CSV (RFC 4180), na ordem de CSV_HEADER
+    public String toCsvRow(TransactionHistory transactionHistory) {
+        return transactionHistory.getId() + ","
+                + transactionHistory.getTransactionId() + ","
+                + transactionHistory.getTransactionType() + ","
+                + transactionHistory.getStatus() + ","
+                + transactionHistory.getTransactionAmount().toString() + ","
+                + transactionHistory.getBalanceBefore().toString() + ","
+                + transactionHistory.getBalanceAfter().toString() + ","
+                + "\"" + transactionHistory.getDescription().replace("\"", "\"\"") + "\","
+                + transactionHistory.getRecordDate();
+    }
 
     public List<TransactionHistoryResponse> toResponseList(List<TransactionHistory> transactionHistories) {
         return transactionHistories.stream()
@@ -62,4 +79,13 @@ public class TransactionHistoryMapper {
                 page.last()
         );
     }
-}
\ No newline at end of file
+
+    public TransactionHistorySliceResponse toSliceResponse(TransactionHistorySlice slice) {
+        return new TransactionHistorySliceResponse(
+                toResponseList(slice.content()),
+                slice.pageSize(),
+                slice.hasNext(),
+                SeekCursorCodec.encode(slice.nextCursor())
+        );
+    }
+}
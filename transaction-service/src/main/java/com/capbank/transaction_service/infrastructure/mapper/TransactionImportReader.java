@@ -0,0 +1,186 @@
+package com.capbank.transaction_service.infrastructure.mapper;
+
+import com.capbank.transaction_service.core.application.port.in.ImportTransactionsUseCase.ImportRow;
+import com.capbank.transaction_service.infrastructure.dto.BulkTransactionRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê o corpo da importação em lote linha a linha, sem carregar o arquivo em
+ * memória. NDJSON: um objeto por linha. CSV: primeira linha com os nomes das
+ * colunas; campos entre aspas seguem a RFC 4180, mas não podem conter quebra
+ * de linha. Linhas em branco são ignoradas; os números de linha do relatório
+ * são os do arquivo.
+ */
+public final class TransactionImportReader {
+
+    private static final String TRANSACTION_TYPE = "transaction_type";
+    private static final String SOURCE_ACCOUNT_ID = "source_account_id";
+    private static final String TARGET_ACCOUNT_ID = "target_account_id";
+    private static final String AMOUNT = "amount";
+    private static final String DESCRIPTION = "description";
+    private static final String TRANSACTION_DATE = "transaction_date";
+
+    private TransactionImportReader() {
+    }
+
+    public static Iterator<ImportRow> ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        ObjectReader rowReader = objectMapper.readerFor(BulkTransactionRow.class);
+        return new LineIterator(reader, 0) {
+            @Override
+            ImportRow parse(long lineNumber, String line) {
+                try {
+                    BulkTransactionRow row = rowReader.readValue(line);
+                    return new ImportRow(lineNumber, row.transactionType(), row.sourceAccountId(),
+                            row.targetAccountId(), row.amount(), row.description(), row.transactionDate(), null);
+                } catch (JsonProcessingException e) {
+                    return ImportRow.malformed(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    public static Iterator<ImportRow> csv(BufferedReader reader) {
+        String header = readLine(reader);
+        if (header == null) {
+            return Collections.emptyIterator();
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey(TRANSACTION_TYPE) || !columns.containsKey(AMOUNT)) {
+            throw new IllegalArgumentException("Cabeçalho CSV deve conter as colunas transaction_type e amount");
+        }
+
+        return new LineIterator(reader, 1) {
+            @Override
+            ImportRow parse(long lineNumber, String line) {
+                List<String> fields;
+                try {
+                    fields = splitCsv(line);
+                } catch (IllegalArgumentException e) {
+                    return ImportRow.malformed(lineNumber, e.getMessage());
+                }
+                if (fields.size() > names.size()) {
+                    return ImportRow.malformed(lineNumber, "CSV inválido: mais campos que colunas no cabeçalho");
+                }
+                return new ImportRow(
+                        lineNumber,
+                        field(fields, columns, TRANSACTION_TYPE),
+                        field(fields, columns, SOURCE_ACCOUNT_ID),
+                        field(fields, columns, TARGET_ACCOUNT_ID),
+                        field(fields, columns, AMOUNT),
+                        field(fields, columns, DESCRIPTION),
+                        field(fields, columns, TRANSACTION_DATE),
+                        null
+                );
+            }
+        };
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("CSV inválido: aspas não fechadas");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private abstract static class LineIterator implements Iterator<ImportRow> {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+        private String nextLine;
+
+        LineIterator(BufferedReader reader, long consumedLines) {
+            this.reader = reader;
+            this.lineNumber = consumedLines;
+            advance();
+        }
+
+        abstract ImportRow parse(long lineNumber, String line);
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            long number = lineNumber;
+            advance();
+            return parse(number, line);
+        }
+
+        private void advance() {
+            do {
+                nextLine = readLine(reader);
+                lineNumber++;
+            } while (nextLine != null && nextLine.isBlank());
+        }
+    }
+}
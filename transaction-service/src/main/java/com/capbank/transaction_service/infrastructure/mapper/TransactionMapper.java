@@ -5,6 +5,9 @@ import com.capbank.transaction_service.core.application.port.in.DepositUseCase.D
 import com.capbank.transaction_service.core.application.port.in.WithdrawalUseCase.WithdrawalCommand;
 import com.capbank.transaction_service.core.application.port.in.TransferUseCase.TransferCommand;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionUseCase.TransactionSlice;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.TransactionSummary;
+import com.capbank.transaction_service.core.application.port.in.ImportTransactionsUseCase.ImportResult;
 import com.capbank.transaction_service.core.application.port.in.UpdateTransactionStatusUseCase.UpdateStatusCommand;
 import com.capbank.transaction_service.core.domain.entity.Transaction;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
@@ -22,7 +25,7 @@ public class TransactionMapper {
     public DepositCommand toDepositCommand(DepositRequest request) {
         return new DepositCommand(
                 new AccountId(request.targetAccountId()),
-                new Money(request.amount()),
+                Money.of(request.amount()),
                 request.description()
         );
     }
@@ -31,7 +34,7 @@ public class TransactionMapper {
     public WithdrawalCommand toWithdrawalCommand(WithdrawalRequest request) {
         return new WithdrawalCommand(
                 new AccountId(request.sourceAccountId()),
-                new Money(request.amount()),
+                Money.of(request.amount()),
                 request.description()
         );
     }
@@ -41,7 +44,7 @@ public class TransactionMapper {
         return new TransferCommand(
                 new AccountId(request.sourceAccountId()),
                 new AccountId(request.targetAccountId()),
-                new Money(request.amount()),
+                Money.of(request.amount()),
                 request.description()
         );
     }
@@ -60,7 +63,7 @@ public class TransactionMapper {
                 sourceAccountId,
                 targetAccountId,
                 request.transactionType(),
-                new Money(request.amount()),
+                Money.of(request.amount()),
                 request.description()
         );
     }
@@ -103,4 +106,42 @@ public class TransactionMapper {
                 page.last()
         );
     }
-}
\ No newline at end of file
+
+    public TransactionSliceResponse toSliceResponse(TransactionSlice slice) {
+        return new TransactionSliceResponse(
+                toResponseList(slice.content()),
+                slice.pageSize(),
+                slice.hasNext(),
+                SeekCursorCodec.encode(slice.nextCursor())
+        );
+    }
+
+    public BulkImportResponse toBulkImportResponse(ImportResult result) {
+        return new BulkImportResponse(
+                result.totalRows(),
+                result.importedRows(),
+                result.rejectedRows(),
+                result.errors().stream()
+                        .map(error -> new BulkImportResponse.RowErrorResponse(error.lineNumber(), error.message()))
+                        .toList()
+        );
+    }
+
+    public TransactionSummaryResponse toSummaryResponse(TransactionSummary summary) {
+        return new TransactionSummaryResponse(
+                summary.accountId().toString(),
+                summary.granularity(),
+                summary.startDate(),
+                summary.endDate(),
+                summary.buckets().stream()
+                        .map(bucket -> new TransactionSummaryResponse.BucketResponse(
+                                bucket.periodStart(),
+                                bucket.direction(),
+                                bucket.transactionType(),
+                                bucket.status(),
+                                bucket.transactionCount(),
+                                bucket.totalAmount().getAmount()))
+                        .toList()
+        );
+    }
+}
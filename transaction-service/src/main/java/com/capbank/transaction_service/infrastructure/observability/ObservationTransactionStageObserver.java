@@ -0,0 +1,67 @@
+package com.capbank.transaction_service.infrastructure.observability;
+
+import com.capbank.transaction_service.core.application.port.out.TransactionStageObserverPort;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Cada etapa vira uma {@link Observation} "transaction.stage": o handler de
+ * métricas do Spring Boot gera o {@code Timer} de mesmo nome e, com tracing
+ * habilitado, a etapa aparece como span filho da requisição.
+ *
+ * Percentis, histograma e buckets de SLO são configurados em
+ * {@code management.metrics.distribution} no application.yml.
+ */
+@Component
+public class ObservationTransactionStageObserver implements TransactionStageObserverPort {
+
+    public static final String OBSERVATION_NAME = "transaction.stage";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_REJECTED = "rejected";
+    static final String OUTCOME_ERROR = "error";
+
+    private final ObservationRegistry observationRegistry;
+
+    public ObservationTransactionStageObserver(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public <T> T observe(TransactionType type, Stage stage, Supplier<T> action) {
+        String typeTag = type.name().toLowerCase(Locale.ROOT);
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(typeTag + " " + stage.tag())
+                .lowCardinalityKeyValue("type", type.name())
+                .lowCardinalityKeyValue("stage", stage.tag())
+                .start();
+
+        try (Observation.Scope scope = observation.openScope()) {
+            T result = action.get();
+            observation.lowCardinalityKeyValue("outcome", OUTCOME_SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("outcome", outcomeOf(e));
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // Regras de negócio (saldo insuficiente, conta inválida) chegam como
+    // IllegalArgumentException, às vezes embrulhadas pelo serviço
+    private static String outcomeOf(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof IllegalArgumentException) {
+                return OUTCOME_REJECTED;
+            }
+        }
+        return OUTCOME_ERROR;
+    }
+}
@@ -0,0 +1,45 @@
+package com.capbank.transaction_service.infrastructure.observability;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serializes the current span as a W3C {@code traceparent} value, for work
+ * that leaves the request thread and is resumed later (the notification
+ * outbox). Empty when tracing is disabled or there is no current span.
+ */
+@Component
+public class TraceParentProvider {
+
+    public static final String TRACE_PARENT_HEADER = "traceparent";
+
+    private final ObjectProvider<Tracer> tracer;
+    private final ObjectProvider<Propagator> propagator;
+
+    public TraceParentProvider(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    public Optional<String> currentTraceParent() {
+        Tracer currentTracer = tracer.getIfAvailable();
+        Propagator currentPropagator = propagator.getIfAvailable();
+        if (currentTracer == null || currentPropagator == null) {
+            return Optional.empty();
+        }
+        Span span = currentTracer.currentSpan();
+        if (span == null) {
+            return Optional.empty();
+        }
+        Map<String, String> carrier = new HashMap<>();
+        currentPropagator.inject(span.context(), carrier, Map::put);
+        return Optional.ofNullable(carrier.get(TRACE_PARENT_HEADER));
+    }
+}
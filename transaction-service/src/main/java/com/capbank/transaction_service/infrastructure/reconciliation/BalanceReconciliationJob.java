@@ -0,0 +1,220 @@
+package com.capbank.transaction_service.infrastructure.reconciliation;
+
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase;
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.BalanceDiscrepancy;
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.LedgerBalance;
+import com.capbank.transaction_service.core.application.port.out.BalanceReconciliationRepositoryPort;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concilia o último saldo do histórico de cada conta com o saldo do
+ * bankaccount-service. Uma transferência que debita a origem e falha no
+ * destino deixa os dois lados divergentes sem erro visível; esta execução
+ * periódica é o que detecta esses casos.
+ *
+ * As contas são percorridas em ordem de chave, em lotes de {@code chunk-size},
+ * e cada lote vira uma consulta de saldos em lote ao bankaccount-service. Os
+ * lotes são processados em paralelo por um pool próprio de threads de baixa
+ * prioridade, com no máximo {@code max-chunks-per-second} lotes iniciados por
+ * segundo, para que a conciliação não dispute banco, pool HTTP e CPU com o
+ * tráfego online. Com os padrões (500 contas, 20 lotes/s) um milhão de contas
+ * leva menos de dois minutos.
+ *
+ * Uma execução só começa se a anterior tiver terminado. O laço de leitura roda
+ * na thread do agendador, que com virtual threads habilitadas não bloqueia os
+ * demais jobs.
+ */
+@Component
+@ConditionalOnProperty(name = "reconciliation.enabled", havingValue = "true")
+public class BalanceReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceReconciliationJob.class);
+
+    // Limite de IDs por consulta do endpoint de saldos em lote do bankaccount-service
+    private static final int MAX_CHUNK_SIZE = 1000;
+
+    private final ReconcileBalancesUseCase reconcileBalancesUseCase;
+    private final BalanceReconciliationRepositoryPort reconciliationRepository;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final long chunkIntervalNanos;
+    private final ThreadPoolExecutor workers;
+    private final Semaphore inFlight;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopping;
+
+    private final Timer runTimer;
+    private final Counter accountsChecked;
+    private final Counter mismatches;
+    private final Counter missingAccounts;
+    private final Counter failedChunks;
+
+    public BalanceReconciliationJob(
+            ReconcileBalancesUseCase reconcileBalancesUseCase,
+            BalanceReconciliationRepositoryPort reconciliationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reconciliation.chunk-size:500}") int chunkSize,
+            @Value("${reconciliation.parallelism:4}") int parallelism,
+            @Value("${reconciliation.max-chunks-per-second:20}") double maxChunksPerSecond) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("reconciliation.chunk-size deve estar entre 1 e " + MAX_CHUNK_SIZE);
+        }
+        if (parallelism <= 0 || maxChunksPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    "reconciliation.parallelism e reconciliation.max-chunks-per-second devem ser positivos");
+        }
+        this.reconcileBalancesUseCase = reconcileBalancesUseCase;
+        this.reconciliationRepository = reconciliationRepository;
+        this.chunkSize = chunkSize;
+        this.chunkIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / maxChunksPerSecond);
+        // um lote lido à frente por worker: a leitura não se adianta muito ao processamento
+        this.maxInFlight = parallelism * 2;
+        this.inFlight = new Semaphore(maxInFlight);
+        // threads de plataforma: prioridade não tem efeito em virtual threads
+        this.workers = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("reconciliation-", 0).daemon(true).priority(Thread.MIN_PRIORITY).factory());
+
+        this.runTimer = Timer.builder("reconciliation.run")
+                .description("Duração de uma execução completa da conciliação de saldos")
+                .register(meterRegistry);
+        this.accountsChecked = Counter.builder("reconciliation.accounts.checked")
+                .description("Contas comparadas com o bankaccount-service")
+                .register(meterRegistry);
+        this.mismatches = Counter.builder("reconciliation.discrepancies")
+                .description("Divergências confirmadas entre histórico e saldo da conta")
+                .tag("kind", "mismatch")
+                .register(meterRegistry);
+        this.missingAccounts = Counter.builder("reconciliation.discrepancies")
+                .description("Divergências confirmadas entre histórico e saldo da conta")
+                .tag("kind", "missing_account")
+                .register(meterRegistry);
+        this.failedChunks = Counter.builder("reconciliation.chunks.failed")
+                .description("Lotes não conciliados por erro na leitura ou na consulta de saldos")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${reconciliation.cron:0 30 2 * * *}")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Balance reconciliation still running, skipping this trigger");
+            return;
+        }
+        try {
+            runTimer.record(this::runOnce);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runOnce() {
+        UUID runId = UuidV7.randomUuid();
+        RunProgress progress = new RunProgress();
+        logger.info("Starting balance reconciliation run {}", runId);
+
+        try {
+            AccountId after = null;
+            long nextChunkAt = System.nanoTime();
+            while (!stopping) {
+                List<LedgerBalance> chunk = reconciliationRepository.findLedgerBalancesAfter(after, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                after = chunk.get(chunk.size() - 1).accountId();
+
+                nextChunkAt = awaitChunkSlot(nextChunkAt);
+                inFlight.acquire();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            process(runId, chunk, progress);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    throw e;
+                }
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+            // espera os lotes ainda em processamento
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Balance reconciliation run {} interrupted", runId);
+        } catch (RuntimeException e) {
+            logger.error("Balance reconciliation run {} aborted: {}", runId, e.getMessage(), e);
+        }
+
+        logger.info("Balance reconciliation run {} finished: {} accounts checked, {} discrepancies, {} failed chunks",
+                runId, progress.accountsChecked.get(), progress.discrepancies.get(), progress.failedChunks.get());
+    }
+
+    private void process(UUID runId, List<LedgerBalance> chunk, RunProgress progress) {
+        try {
+            List<BalanceDiscrepancy> discrepancies = reconcileBalancesUseCase.reconcile(runId, chunk);
+            accountsChecked.increment(chunk.size());
+            progress.accountsChecked.addAndGet(chunk.size());
+            for (BalanceDiscrepancy discrepancy : discrepancies) {
+                (discrepancy.isMissingAccount() ? missingAccounts : mismatches).increment();
+            }
+            progress.discrepancies.addAndGet(discrepancies.size());
+        } catch (RuntimeException e) {
+            failedChunks.increment();
+            progress.failedChunks.incrementAndGet();
+            logger.warn("Reconciliation run {} failed for chunk starting at account {}: {}",
+                    runId, chunk.get(0).accountId(), e.getMessage());
+        }
+    }
+
+    private long awaitChunkSlot(long nextChunkAt) throws InterruptedException {
+        long wait = nextChunkAt - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return Math.max(nextChunkAt, System.nanoTime()) + chunkIntervalNanos;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        workers.shutdown();
+        try {
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RunProgress {
+        private final AtomicLong accountsChecked = new AtomicLong();
+        private final AtomicLong discrepancies = new AtomicLong();
+        private final AtomicLong failedChunks = new AtomicLong();
+    }
+}
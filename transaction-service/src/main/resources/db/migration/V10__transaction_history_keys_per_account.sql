@@ -0,0 +1,17 @@
+-- A transferência passa a gravar um histórico para cada conta envolvida, então
+-- a mesma transação tem dois históricos. A unicidade vale por transação e conta.
+
+ALTER TABLE transaction_history_keys ADD COLUMN account_id UUID;
+
+UPDATE transaction_history_keys k
+   SET account_id = h.account_id
+  FROM transaction_history h
+ WHERE h.transaction_id = k.transaction_id;
+
+-- Chaves sem histórico não protegem nenhum registro
+DELETE FROM transaction_history_keys WHERE account_id IS NULL;
+
+ALTER TABLE transaction_history_keys ALTER COLUMN account_id SET NOT NULL;
+ALTER TABLE transaction_history_keys DROP CONSTRAINT transaction_history_keys_pkey;
+ALTER TABLE transaction_history_keys
+    ADD CONSTRAINT transaction_history_keys_pkey PRIMARY KEY (transaction_id, account_id);
@@ -0,0 +1,31 @@
+-- O snapshot passa a guardar todos os campos do último histórico da conta, não
+-- só o saldo. A leitura do último histórico vira um único acesso pela chave
+-- primária do snapshot, sem a segunda consulta nas partições de
+-- transaction_history.
+
+ALTER TABLE account_balance_snapshot
+    ADD COLUMN last_history_id    UUID,
+    ADD COLUMN balance_before     NUMERIC(15, 2),
+    ADD COLUMN transaction_amount NUMERIC(15, 2),
+    ADD COLUMN transaction_type   VARCHAR(255),
+    ADD COLUMN status             VARCHAR(255),
+    ADD COLUMN description        VARCHAR(255);
+
+UPDATE account_balance_snapshot s
+   SET last_history_id    = h.id,
+       balance_before     = h.balance_before,
+       transaction_amount = h.transaction_amount,
+       transaction_type   = h.transaction_type,
+       status             = h.status,
+       description        = h.description
+  FROM transaction_history h
+ WHERE h.account_id = s.account_id
+   AND h.transaction_id = s.last_transaction_id
+   AND h.record_date = s.last_record_date;
+
+ALTER TABLE account_balance_snapshot
+    ALTER COLUMN last_history_id SET NOT NULL,
+    ALTER COLUMN balance_before SET NOT NULL,
+    ALTER COLUMN transaction_amount SET NOT NULL,
+    ALTER COLUMN transaction_type SET NOT NULL,
+    ALTER COLUMN status SET NOT NULL;
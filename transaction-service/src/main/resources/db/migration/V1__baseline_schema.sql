@@ -0,0 +1,70 @@
+-- Esquema existente até aqui, antes gerado pelo Hibernate (ddl-auto: update).
+-- Bancos já criados dessa forma são marcados na versão 0 (baseline-on-migrate)
+-- e também executam esta migração: tudo aqui é IF NOT EXISTS, então ela só
+-- cria o que o Hibernate ainda não tinha criado (idempotency_keys e
+-- notification_outbox, por exemplo).
+
+CREATE TABLE IF NOT EXISTS transactions (
+    id                UUID           NOT NULL,
+    source_account_id UUID,
+    target_account_id UUID,
+    transaction_type  VARCHAR(255)   NOT NULL,
+    amount            NUMERIC(15, 2) NOT NULL,
+    description       VARCHAR(255),
+    transaction_date  TIMESTAMP(6)   NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6),
+    CONSTRAINT transactions_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_source_account ON transactions (source_account_id);
+CREATE INDEX IF NOT EXISTS idx_target_account ON transactions (target_account_id);
+CREATE INDEX IF NOT EXISTS idx_transaction_date ON transactions (transaction_date);
+CREATE INDEX IF NOT EXISTS idx_status ON transactions (status);
+
+CREATE TABLE IF NOT EXISTS transaction_history (
+    id                 UUID           NOT NULL,
+    account_id         UUID           NOT NULL,
+    transaction_id     UUID           NOT NULL,
+    balance_before     NUMERIC(15, 2) NOT NULL,
+    balance_after      NUMERIC(15, 2) NOT NULL,
+    transaction_amount NUMERIC(15, 2) NOT NULL,
+    transaction_type   VARCHAR(255)   NOT NULL,
+    status             VARCHAR(255)   NOT NULL,
+    description        VARCHAR(255),
+    record_date        TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT transaction_history_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_transaction_history_transaction_id UNIQUE (transaction_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_id ON transaction_history (account_id);
+CREATE INDEX IF NOT EXISTS idx_transaction_id ON transaction_history (transaction_id);
+CREATE INDEX IF NOT EXISTS idx_record_date ON transaction_history (record_date);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    operation       VARCHAR(20)  NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    response_body   TEXT,
+    created_at      TIMESTAMP(6) NOT NULL,
+    completed_at    TIMESTAMP(6),
+    CONSTRAINT idempotency_keys_pkey PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_created_at ON idempotency_keys (created_at);
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id             UUID         NOT NULL,
+    transaction_id UUID         NOT NULL,
+    payload        TEXT         NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    attempts       INTEGER      NOT NULL,
+    last_error     VARCHAR(500),
+    created_at     TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6),
+    CONSTRAINT notification_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_created_at ON notification_outbox (status, created_at);
@@ -0,0 +1,18 @@
+-- Índices compostos na ordem da listagem por conta (data e ID decrescentes).
+-- Cada ramo do UNION ALL em TransactionJpaRepository lê um deles já ordenado,
+-- sem BitmapOr nem sort. Os índices de coluna única passam a ser prefixos
+-- redundantes. CONCURRENTLY evita bloquear escritas em tabelas já populadas;
+-- o Flyway executa este script fora de transação.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_source_account_date
+    ON transactions (source_account_id, transaction_date DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_target_account_date
+    ON transactions (target_account_id, transaction_date DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_history_account_date
+    ON transaction_history (account_id, record_date DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_source_account;
+DROP INDEX CONCURRENTLY IF EXISTS idx_target_account;
+DROP INDEX CONCURRENTLY IF EXISTS idx_account_id;
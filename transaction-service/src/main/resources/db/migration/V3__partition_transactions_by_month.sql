@@ -0,0 +1,139 @@
+-- Particiona transactions (transaction_date) e transaction_history (record_date)
+-- por mês. As tabelas atuais são renomeadas, os dados copiados para as novas
+-- partições e as tabelas antigas removidas; em bases grandes esta migração deve
+-- rodar em janela de manutenção.
+--
+-- Em tabelas particionadas a chave primária e as restrições UNIQUE precisam
+-- incluir a coluna de partição: a PK passa a ser (id, data) e a unicidade de
+-- transaction_history.transaction_id passa a ser garantida pela aplicação.
+
+-- Cria as partições mensais de parent_table entre from_month e to_month (inclusive).
+-- Usada aqui e pelo PartitionMaintenanceJob; idempotente.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent_table text, from_month date, to_month date)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start    date := date_trunc('month', from_month)::date;
+    partition_name text;
+    created        integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('partition_maintenance:' || parent_table));
+
+    WHILE month_start <= to_month LOOP
+        partition_name := format('%s_%s', parent_table, to_char(month_start, 'YYYY_MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table,
+                           month_start, (month_start + interval '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+
+    RETURN created;
+END;
+$$;
+
+-- Desanexa (sem apagar) as partições mensais de parent_table anteriores a cutoff_month.
+-- As tabelas desanexadas ficam disponíveis para arquivamento ou remoção manual.
+CREATE OR REPLACE FUNCTION detach_monthly_partitions_before(parent_table text, cutoff_month date)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    child    record;
+    detached integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('partition_maintenance:' || parent_table));
+
+    FOR child IN
+        SELECT c.relname
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+         WHERE i.inhparent = to_regclass(parent_table)
+           AND c.relname ~ ('^' || parent_table || '_[0-9]{4}_[0-9]{2}$')
+           AND to_date(right(c.relname, 7), 'YYYY_MM') < date_trunc('month', cutoff_month)::date
+         ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, child.relname);
+        detached := detached + 1;
+    END LOOP;
+
+    RETURN detached;
+END;
+$$;
+
+-- transactions ---------------------------------------------------------------
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+
+CREATE TABLE transactions (
+    id                UUID           NOT NULL,
+    source_account_id UUID,
+    target_account_id UUID,
+    transaction_type  VARCHAR(255)   NOT NULL,
+    amount            NUMERIC(15, 2) NOT NULL,
+    description       VARCHAR(255),
+    transaction_date  TIMESTAMP(6)   NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6)
+) PARTITION BY RANGE (transaction_date);
+
+SELECT ensure_monthly_partitions(
+        'transactions',
+        COALESCE((SELECT min(transaction_date) FROM transactions_unpartitioned), now())::date,
+        (now() + interval '3 months')::date);
+
+INSERT INTO transactions
+SELECT id, source_account_id, target_account_id, transaction_type, amount, description,
+       transaction_date, status, created_at, updated_at
+  FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+ALTER TABLE transactions ADD CONSTRAINT transactions_pkey PRIMARY KEY (id, transaction_date);
+
+CREATE INDEX idx_transactions_source_account_date
+    ON transactions (source_account_id, transaction_date DESC, id DESC);
+CREATE INDEX idx_transactions_target_account_date
+    ON transactions (target_account_id, transaction_date DESC, id DESC);
+CREATE INDEX idx_transaction_date ON transactions (transaction_date);
+CREATE INDEX idx_status ON transactions (status);
+
+-- transaction_history --------------------------------------------------------
+
+ALTER TABLE transaction_history RENAME TO transaction_history_unpartitioned;
+
+CREATE TABLE transaction_history (
+    id                 UUID           NOT NULL,
+    account_id         UUID           NOT NULL,
+    transaction_id     UUID           NOT NULL,
+    balance_before     NUMERIC(15, 2) NOT NULL,
+    balance_after      NUMERIC(15, 2) NOT NULL,
+    transaction_amount NUMERIC(15, 2) NOT NULL,
+    transaction_type   VARCHAR(255)   NOT NULL,
+    status             VARCHAR(255)   NOT NULL,
+    description        VARCHAR(255),
+    record_date        TIMESTAMP(6)   NOT NULL
+) PARTITION BY RANGE (record_date);
+
+SELECT ensure_monthly_partitions(
+        'transaction_history',
+        COALESCE((SELECT min(record_date) FROM transaction_history_unpartitioned), now())::date,
+        (now() + interval '3 months')::date);
+
+INSERT INTO transaction_history
+SELECT id, account_id, transaction_id, balance_before, balance_after, transaction_amount,
+       transaction_type, status, description, record_date
+  FROM transaction_history_unpartitioned;
+
+DROP TABLE transaction_history_unpartitioned;
+
+ALTER TABLE transaction_history ADD CONSTRAINT transaction_history_pkey PRIMARY KEY (id, record_date);
+
+CREATE INDEX idx_transaction_history_account_date
+    ON transaction_history (account_id, record_date DESC, id DESC);
+CREATE INDEX idx_transaction_id ON transaction_history (transaction_id);
+CREATE INDEX idx_record_date ON transaction_history (record_date);
@@ -0,0 +1,19 @@
+-- Último saldo conhecido de cada conta, mantido na mesma transação que grava
+-- o histórico. A leitura do saldo atual passa a ser um acesso pela chave
+-- primária em vez de um probe ordenado sobre todas as partições do histórico.
+
+CREATE TABLE account_balance_snapshot (
+    account_id          UUID           NOT NULL,
+    balance             NUMERIC(15, 2) NOT NULL,
+    last_transaction_id UUID           NOT NULL,
+    last_record_date    TIMESTAMP(6)   NOT NULL,
+    version             BIGINT         NOT NULL,
+    updated_at          TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT account_balance_snapshot_pkey PRIMARY KEY (account_id)
+);
+
+INSERT INTO account_balance_snapshot (account_id, balance, last_transaction_id, last_record_date, version, updated_at)
+SELECT DISTINCT ON (h.account_id)
+       h.account_id, h.balance_after, h.transaction_id, h.record_date, 0, now()
+  FROM transaction_history h
+ ORDER BY h.account_id, h.record_date DESC, h.id DESC;
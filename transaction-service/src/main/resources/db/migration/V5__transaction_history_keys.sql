@@ -0,0 +1,13 @@
+-- Em tabela particionada a UNIQUE precisa incluir record_date, o que não
+-- impede dois históricos para a mesma transação. A unicidade de
+-- transaction_id fica nesta tabela auxiliar, gravada junto com o histórico,
+-- e substitui o SELECT de verificação que antecedia cada inserção.
+
+CREATE TABLE transaction_history_keys (
+    transaction_id UUID NOT NULL,
+    CONSTRAINT transaction_history_keys_pkey PRIMARY KEY (transaction_id)
+);
+
+INSERT INTO transaction_history_keys (transaction_id)
+SELECT DISTINCT transaction_id
+  FROM transaction_history;
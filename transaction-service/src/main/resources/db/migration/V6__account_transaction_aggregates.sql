@@ -0,0 +1,45 @@
+-- Somas e contagens por conta, período (dia e mês), direção, tipo e status,
+-- mantidas de forma incremental na mesma transação que grava ou altera a
+-- transação. O resumo do dashboard lê apenas estas linhas em vez de percorrer
+-- as transações da conta.
+--
+-- Cada transação contribui uma vez por conta envolvida: OUTGOING para a conta
+-- de origem e INCOMING para a de destino.
+
+CREATE TABLE account_transaction_aggregates (
+    account_id        UUID           NOT NULL,
+    granularity       VARCHAR(10)    NOT NULL,
+    period_start      DATE           NOT NULL,
+    direction         VARCHAR(10)    NOT NULL,
+    transaction_type  VARCHAR(255)   NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    total_amount      NUMERIC(19, 2) NOT NULL,
+    updated_at        TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT account_transaction_aggregates_pkey
+        PRIMARY KEY (account_id, granularity, period_start, direction, transaction_type, status)
+);
+
+INSERT INTO account_transaction_aggregates
+       (account_id, granularity, period_start, direction, transaction_type, status,
+        transaction_count, total_amount, updated_at)
+SELECT legs.account_id,
+       g.granularity,
+       date_trunc(g.unit, legs.transaction_date)::date,
+       legs.direction,
+       legs.transaction_type,
+       legs.status,
+       count(*),
+       sum(legs.amount),
+       now()
+  FROM (SELECT source_account_id AS account_id, 'OUTGOING' AS direction,
+               transaction_type, status, amount, transaction_date
+          FROM transactions
+         WHERE source_account_id IS NOT NULL
+        UNION ALL
+        SELECT target_account_id, 'INCOMING',
+               transaction_type, status, amount, transaction_date
+          FROM transactions
+         WHERE target_account_id IS NOT NULL) legs
+ CROSS JOIN (VALUES ('DAY', 'day'), ('MONTH', 'month')) AS g (granularity, unit)
+ GROUP BY 1, 2, 3, 4, 5, 6;
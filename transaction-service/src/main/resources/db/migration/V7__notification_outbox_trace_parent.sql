@@ -0,0 +1,5 @@
+-- Contexto de trace (W3C traceparent) da requisição que gerou a notificação.
+-- O relay publica a mensagem depois, fora da requisição; o cabeçalho gravado
+-- aqui faz o consumo no notification-service continuar o mesmo trace.
+
+ALTER TABLE notification_outbox ADD COLUMN trace_parent VARCHAR(55);
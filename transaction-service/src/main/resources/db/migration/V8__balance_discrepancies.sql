@@ -0,0 +1,20 @@
+-- Divergências encontradas pela conciliação entre o último saldo do histórico
+-- (account_balance_snapshot) e o saldo mantido pelo bankaccount-service. Cada
+-- execução grava suas linhas com o mesmo run_id; account_balance fica nulo
+-- quando a conta não existe mais no bankaccount-service.
+
+CREATE TABLE balance_discrepancies (
+    id                  UUID           NOT NULL,
+    run_id              UUID           NOT NULL,
+    account_id          UUID           NOT NULL,
+    history_balance     NUMERIC(15, 2) NOT NULL,
+    account_balance     NUMERIC(15, 2),
+    difference          NUMERIC(15, 2),
+    last_transaction_id UUID           NOT NULL,
+    last_record_date    TIMESTAMP(6)   NOT NULL,
+    detected_at         TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT balance_discrepancies_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_balance_discrepancies_run ON balance_discrepancies (run_id);
+CREATE INDEX idx_balance_discrepancies_account ON balance_discrepancies (account_id, detected_at DESC);
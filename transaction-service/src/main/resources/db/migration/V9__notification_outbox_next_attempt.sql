@@ -0,0 +1,12 @@
+-- Próxima tentativa de publicação de cada entrada do outbox. Após uma falha o
+-- relay adia a entrada com backoff exponencial, então uma indisponibilidade do
+-- broker consome tentativas ao longo do tempo em vez de uma por ciclo de polling.
+
+ALTER TABLE notification_outbox ADD COLUMN next_attempt_at TIMESTAMP(6);
+UPDATE notification_outbox SET next_attempt_at = created_at;
+ALTER TABLE notification_outbox ALTER COLUMN next_attempt_at SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_outbox_status_created_at;
+CREATE INDEX idx_outbox_pending_next_attempt ON notification_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_outbox_status_published_at ON notification_outbox (status, published_at);
@@ -0,0 +1,72 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.infrastructure.adapter.out.bankaccount.AccountIdentityCache;
+import com.capbank.transaction_service.infrastructure.adapter.out.bankaccount.AccountIdentityCache.AccountIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Account Identity Cache Tests")
+class AccountIdentityCacheTest {
+
+    private static final AccountId ACCOUNT_ID = new AccountId("550e8400-e29b-41d4-a716-446655440001");
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountIdentityCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AccountIdentityCache(meterRegistry, 100, Duration.ofMinutes(30));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load account identity once and serve later lookups from cache")
+    void shouldLoadOnce() {
+        AccountIdentity first = cache.get(ACCOUNT_ID, this::load);
+        AccountIdentity second = cache.get(ACCOUNT_ID, this::load);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(second.accountNumber()).isEqualTo("12345-6");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "bankaccount.identity").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reload account identity after invalidation")
+    void shouldReloadAfterInvalidation() {
+        cache.get(ACCOUNT_ID, this::load);
+
+        cache.invalidate(ACCOUNT_ID);
+        cache.get(ACCOUNT_ID, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache failed lookups")
+    void shouldNotCacheFailures() {
+        assertThatThrownBy(() -> cache.get(ACCOUNT_ID, id -> {
+            throw new RuntimeException("bankaccount-service unavailable");
+        })).isInstanceOf(RuntimeException.class);
+
+        cache.get(ACCOUNT_ID, this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private AccountIdentity load(AccountId accountId) {
+        loads.incrementAndGet();
+        return new AccountIdentity(accountId.toString(), "12345-6", "0001", "550e8400-e29b-41d4-a716-446655440002");
+    }
+}
@@ -0,0 +1,139 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.infrastructure.exception.AccountLaneBusyException;
+import com.capbank.transaction_service.infrastructure.lane.AccountLaneExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Account Lane Executor Tests")
+class AccountLaneExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountLaneExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should never run two operations of the same account at once")
+    void shouldSerializeSameAccountOperations() {
+        executor = new AccountLaneExecutor(meterRegistry, 8, 100, Duration.ofSeconds(10));
+        AccountId accountId = AccountId.generate();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            calls.add(CompletableFuture.runAsync(() -> executor.execute(accountId, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+                return null;
+            })));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("account.lane.wait").timer().count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should reject operations when the account lane queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        executor = new AccountLaneExecutor(meterRegistry, 1, 1, Duration.ofSeconds(10));
+        AccountId accountId = AccountId.generate();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Object> blocking = CompletableFuture.supplyAsync(() -> executor.execute(accountId, () -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.execute(accountId, () -> null));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> executor.execute(accountId, () -> null))
+                .isInstanceOf(AccountLaneBusyException.class);
+        assertThat(meterRegistry.get("account.lane.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should give up on operations that wait too long in the queue")
+    void shouldAbandonOperationsThatWaitTooLong() throws Exception {
+        executor = new AccountLaneExecutor(meterRegistry, 1, 10, Duration.ofMillis(50));
+        AccountId accountId = AccountId.generate();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+
+        CompletableFuture<Object> blocking = CompletableFuture.supplyAsync(() -> executor.execute(accountId, () -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> executor.execute(accountId, executed::incrementAndGet))
+                .isInstanceOf(AccountLaneBusyException.class);
+
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        executor.execute(accountId, () -> null);
+        assertThat(executed.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the operation exception unchanged")
+    void shouldRethrowOperationException() {
+        executor = new AccountLaneExecutor(meterRegistry, 4, 10, Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> executor.execute(AccountId.generate(), () -> {
+            throw new IllegalArgumentException("Saldo insuficiente");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("Saldo insuficiente");
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("account.lane.queue.depth").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.AccountTransactionAggregateJpaRepository;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.AccountTransactionAggregator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Account Transaction Aggregator Tests")
+class AccountTransactionAggregatorTest {
+
+    private static final AccountId SOURCE = new AccountId("550e8400-e29b-41d4-a716-446655440000");
+    private static final AccountId TARGET = new AccountId("550e8400-e29b-41d4-a716-446655440001");
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Mock
+    private AccountTransactionAggregateJpaRepository repository;
+
+    private AccountTransactionAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new AccountTransactionAggregator(repository);
+    }
+
+    @Test
+    @DisplayName("Should add a transfer to both accounts for each granularity")
+    void shouldRecordTransferForBothAccounts() {
+        aggregator.recordCreated(transfer(TransactionStatus.SUCCESS, "50.00"));
+
+        verify(repository).upsert(SOURCE.getValue(), "DAY", LocalDate.of(2024, 3, 15), "OUTGOING",
+                "TRANSFER", "SUCCESS", 1L, new BigDecimal("50.00"));
+        verify(repository).upsert(SOURCE.getValue(), "MONTH", LocalDate.of(2024, 3, 1), "OUTGOING",
+                "TRANSFER", "SUCCESS", 1L, new BigDecimal("50.00"));
+        verify(repository).upsert(TARGET.getValue(), "DAY", LocalDate.of(2024, 3, 15), "INCOMING",
+                "TRANSFER", "SUCCESS", 1L, new BigDecimal("50.00"));
+        verify(repository).upsert(TARGET.getValue(), "MONTH", LocalDate.of(2024, 3, 1), "INCOMING",
+                "TRANSFER", "SUCCESS", 1L, new BigDecimal("50.00"));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should merge transactions sharing an aggregate into a single upsert")
+    void shouldMergeDeltasOfTheSamePeriod() {
+        aggregator.recordCreated(List.of(
+                transfer(TransactionStatus.SUCCESS, "50.00"),
+                transfer(TransactionStatus.SUCCESS, "25.50")));
+
+        verify(repository).upsert(SOURCE.getValue(), "DAY", LocalDate.of(2024, 3, 15), "OUTGOING",
+                "TRANSFER", "SUCCESS", 2L, new BigDecimal("75.50"));
+        verify(repository, times(4)).upsert(any(), anyString(), any(), anyString(), anyString(), anyString(),
+                anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should move a transaction from the previous status aggregate to the new one")
+    void shouldMoveTransactionBetweenStatuses() {
+        Transaction transaction = transfer(TransactionStatus.FAILED, "50.00");
+
+        aggregator.recordStatusChange(transaction, TransactionStatus.PENDING);
+
+        verify(repository).upsert(SOURCE.getValue(), "DAY", LocalDate.of(2024, 3, 15), "OUTGOING",
+                "TRANSFER", "PENDING", -1L, new BigDecimal("-50.00"));
+        verify(repository).upsert(SOURCE.getValue(), "DAY", LocalDate.of(2024, 3, 15), "OUTGOING",
+                "TRANSFER", "FAILED", 1L, new BigDecimal("50.00"));
+        verify(repository, times(8)).upsert(any(), anyString(), any(), anyString(), anyString(), anyString(),
+                anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should not touch aggregates when the status did not change")
+    void shouldIgnoreUnchangedStatus() {
+        aggregator.recordStatusChange(transfer(TransactionStatus.PENDING, "50.00"), TransactionStatus.PENDING);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should defer upserts within a transaction until just before commit")
+    void shouldDeferUpsertsUntilBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            aggregator.recordCreated(transfer(TransactionStatus.SUCCESS, "50.00"));
+            aggregator.recordCreated(transfer(TransactionStatus.SUCCESS, "25.50"));
+
+            verifyNoInteractions(repository);
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.beforeCommit(false));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(repository).upsert(SOURCE.getValue(), "DAY", LocalDate.of(2024, 3, 15), "OUTGOING",
+                "TRANSFER", "SUCCESS", 2L, new BigDecimal("75.50"));
+        verify(repository, times(4)).upsert(any(), anyString(), any(), anyString(), anyString(), anyString(),
+                anyLong(), any());
+    }
+
+    private static Transaction transfer(TransactionStatus status, String amount) {
+        return new Transaction.Builder()
+                .id(TransactionId.generate())
+                .sourceAccountId(SOURCE)
+                .targetAccountId(TARGET)
+                .type(TransactionType.TRANSFER)
+                .amount(new Money(amount))
+                .description("Transfer")
+                .transactionDate(DATE)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.BalanceDiscrepancy;
+import com.capbank.transaction_service.core.application.port.in.ReconcileBalancesUseCase.LedgerBalance;
+import com.capbank.transaction_service.core.application.port.out.BalanceReconciliationRepositoryPort;
+import com.capbank.transaction_service.core.application.port.out.BankAccountServicePort;
+import com.capbank.transaction_service.core.application.service.BalanceReconciliationService;
+import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Balance Reconciliation Service Tests")
+class BalanceReconciliationServiceTest {
+
+    @Mock
+    private BalanceReconciliationRepositoryPort reconciliationRepository;
+
+    @Mock
+    private BankAccountServicePort bankAccountService;
+
+    private BalanceReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new BalanceReconciliationService(reconciliationRepository, bankAccountService);
+    }
+
+    @Test
+    @DisplayName("Should not record anything when every balance matches the history")
+    void shouldSkipMatchingBalances() {
+        LedgerBalance ledger = ledger(AccountId.generate(), "150.00");
+        when(bankAccountService.getBalances(List.of(ledger.accountId())))
+                .thenReturn(Map.of(ledger.accountId(), new Money("150.00")));
+
+        List<BalanceDiscrepancy> discrepancies = reconciliationService.reconcile(UUID.randomUUID(), List.of(ledger));
+
+        assertThat(discrepancies).isEmpty();
+        verify(reconciliationRepository, never()).findLedgerBalances(any());
+        verify(reconciliationRepository, never()).saveDiscrepancies(any());
+    }
+
+    @Test
+    @DisplayName("Should record confirmed mismatches and missing accounts")
+    @SuppressWarnings("unchecked")
+    void shouldRecordConfirmedDiscrepancies() {
+        UUID runId = UUID.randomUUID();
+        LedgerBalance matching = ledger(AccountId.generate(), "80.00");
+        LedgerBalance drifted = ledger(AccountId.generate(), "200.00");
+        LedgerBalance missing = ledger(AccountId.generate(), "10.00");
+        when(bankAccountService.getBalances(List.of(matching.accountId(), drifted.accountId(), missing.accountId())))
+                .thenReturn(Map.of(matching.accountId(), new Money("80.00"), drifted.accountId(), new Money("100.00")));
+        when(reconciliationRepository.findLedgerBalances(List.of(drifted.accountId(), missing.accountId())))
+                .thenReturn(List.of(drifted, missing));
+        when(bankAccountService.getBalances(List.of(drifted.accountId(), missing.accountId())))
+                .thenReturn(Map.of(drifted.accountId(), new Money("100.00")));
+
+        List<BalanceDiscrepancy> discrepancies =
+                reconciliationService.reconcile(runId, List.of(matching, drifted, missing));
+
+        assertThat(discrepancies).hasSize(2);
+        assertThat(discrepancies.get(0).ledgerBalance()).isEqualTo(drifted);
+        assertThat(discrepancies.get(0).difference()).isEqualByComparingTo(new BigDecimal("-100.00"));
+        assertThat(discrepancies.get(1).ledgerBalance()).isEqualTo(missing);
+        assertThat(discrepancies.get(1).isMissingAccount()).isTrue();
+        assertThat(discrepancies).allMatch(discrepancy -> discrepancy.runId().equals(runId));
+
+        ArgumentCaptor<List<BalanceDiscrepancy>> saved = ArgumentCaptor.forClass(List.class);
+        verify(reconciliationRepository).saveDiscrepancies(saved.capture());
+        assertThat(saved.getValue()).isEqualTo(discrepancies);
+    }
+
+    @Test
+    @DisplayName("Should leave an account for the next run when its history moved during the check")
+    void shouldSkipAccountsWithHistoryWrittenDuringCheck() {
+        AccountId accountId = AccountId.generate();
+        LedgerBalance stale = ledger(accountId, "300.00");
+        LedgerBalance updated = ledger(accountId, "250.00");
+        when(bankAccountService.getBalances(List.of(accountId)))
+                .thenReturn(Map.of(accountId, new Money("250.00")));
+        when(reconciliationRepository.findLedgerBalances(List.of(accountId))).thenReturn(List.of(updated));
+
+        List<BalanceDiscrepancy> discrepancies = reconciliationService.reconcile(UUID.randomUUID(), List.of(stale));
+
+        assertThat(discrepancies).isEmpty();
+        verify(bankAccountService, times(1)).getBalances(any());
+        verify(reconciliationRepository, never()).saveDiscrepancies(any());
+    }
+
+    @Test
+    @DisplayName("Should match a transfer recipient whose latest history is the incoming leg")
+    void shouldMatchTransferRecipient() {
+        AccountId recipientId = AccountId.generate();
+        TransactionHistory incoming = TransactionHistory.createIncomingTransferHistory(
+                recipientId, TransactionId.generate(), new Money("50.00"), new Money("100.00"), "Transfer");
+        LedgerBalance recipient = new LedgerBalance(recipientId, incoming.getBalanceAfter(),
+                incoming.getTransactionId().getValue(), incoming.getRecordDate());
+        when(bankAccountService.getBalances(List.of(recipientId)))
+                .thenReturn(Map.of(recipientId, new Money("150.00")));
+
+        List<BalanceDiscrepancy> discrepancies = reconciliationService.reconcile(UUID.randomUUID(), List.of(recipient));
+
+        assertThat(discrepancies).isEmpty();
+        verify(reconciliationRepository, never()).saveDiscrepancies(any());
+    }
+
+    private static LedgerBalance ledger(AccountId accountId, String balance) {
+        return new LedgerBalance(accountId, new Money(balance), UUID.randomUUID(), LocalDateTime.now());
+    }
+}
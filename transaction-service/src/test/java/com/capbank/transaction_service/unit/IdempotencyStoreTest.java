@@ -0,0 +1,244 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.application.exception.TransactionRejectedException;
+import com.capbank.transaction_service.core.application.port.out.BankAccountServicePort;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.IdempotencyRecordJpaEntity;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.IdempotencyRecordJpaRepository;
+import com.capbank.transaction_service.infrastructure.dto.DepositRequest;
+import com.capbank.transaction_service.infrastructure.dto.TransactionResponse;
+import com.capbank.transaction_service.infrastructure.dto.TransactionResultResponse;
+import com.capbank.transaction_service.infrastructure.exception.AccountLaneBusyException;
+import com.capbank.transaction_service.infrastructure.exception.IdempotencyKeyConflictException;
+import com.capbank.transaction_service.infrastructure.exception.IdempotencyKeyMismatchException;
+import com.capbank.transaction_service.infrastructure.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Store Tests")
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordJpaRepository repository;
+
+    @Mock
+    private BankAccountServicePort bankAccountService;
+
+    private IdempotencyStore store;
+    private DepositRequest request;
+    private TransactionResultResponse response;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        store = new IdempotencyStore(repository, objectMapper, Duration.ofHours(24), Duration.ofMinutes(1), 100);
+
+        request = new DepositRequest("550e8400-e29b-41d4-a716-446655440001", new BigDecimal("100.00"), "Test deposit");
+        response = new TransactionResultResponse(
+                new TransactionResponse(
+                        "550e8400-e29b-41d4-a716-446655440099",
+                        null,
+                        "550e8400-e29b-41d4-a716-446655440001",
+                        TransactionType.DEPOSIT,
+                        new BigDecimal("100.00"),
+                        "Test deposit",
+                        TransactionStatus.SUCCESS,
+                        LocalDateTime.of(2024, 1, 1, 10, 0)
+                ),
+                "Depósito processado com sucesso. Valor: 100.00",
+                true
+        );
+    }
+
+    @Test
+    @DisplayName("Should execute action directly when no key is provided")
+    void shouldExecuteDirectlyWithoutKey() {
+        IdempotencyStore.Outcome outcome = store.execute(null, "DEPOSIT", request, () -> response);
+
+        assertThat(outcome.response()).isEqualTo(response);
+        assertThat(outcome.replayed()).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should execute once and replay from cache on retry")
+    void shouldReplayFromCacheOnRetry() {
+        when(repository.findById("key-1")).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        AtomicInteger executions = new AtomicInteger();
+
+        IdempotencyStore.Outcome first = store.execute("key-1", "DEPOSIT", request, () -> {
+            executions.incrementAndGet();
+            return response;
+        });
+        IdempotencyStore.Outcome second = store.execute("key-1", "DEPOSIT", request, () -> {
+            executions.incrementAndGet();
+            return response;
+        });
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response()).isEqualTo(response);
+        verify(repository).save(argThat(record ->
+                record.getStatus() == IdempotencyRecordJpaEntity.Status.COMPLETED && record.getResponseBody() != null));
+    }
+
+    @Test
+    @DisplayName("Should replay stored response without executing the action")
+    void shouldReplayStoredResponse() {
+        IdempotencyRecordJpaEntity stored = captureCompletedRecord("key-2");
+        when(repository.findById("key-2")).thenReturn(Optional.of(stored));
+
+        IdempotencyStore.Outcome outcome = store.execute("key-2", "DEPOSIT", request, () -> {
+            throw new AssertionError("Action must not run on replay");
+        });
+
+        assertThat(outcome.replayed()).isTrue();
+        assertThat(outcome.response()).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request body")
+    void shouldRejectKeyReusedWithDifferentBody() {
+        IdempotencyRecordJpaEntity stored = captureCompletedRecord("key-3");
+        when(repository.findById("key-3")).thenReturn(Optional.of(stored));
+        DepositRequest otherRequest = new DepositRequest(request.targetAccountId(), new BigDecimal("999.00"), "Other");
+
+        assertThatThrownBy(() -> store.execute("key-3", "DEPOSIT", otherRequest, () -> response))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject concurrent request while the key is in progress")
+    void shouldRejectWhileInProgress() {
+        IdempotencyRecordJpaEntity stored = captureCompletedRecord("key-4");
+        stored.setStatus(IdempotencyRecordJpaEntity.Status.IN_PROGRESS);
+        stored.setResponseBody(null);
+        stored.setCreatedAt(LocalDateTime.now());
+        when(repository.findById("key-4")).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> store.execute("key-4", "DEPOSIT", request, () -> response))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep a stale in-progress key and reject retries instead of re-running the action")
+    void shouldKeepStaleInProgressKey() {
+        IdempotencyRecordJpaEntity stored = captureCompletedRecord("key-6");
+        stored.setStatus(IdempotencyRecordJpaEntity.Status.IN_PROGRESS);
+        stored.setResponseBody(null);
+        stored.setCreatedAt(LocalDateTime.now().minusHours(1));
+        when(repository.findById("key-6")).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> store.execute("key-6", "DEPOSIT", request, () -> {
+            throw new AssertionError("Action must not run while the key is unresolved");
+        })).isInstanceOf(IdempotencyKeyConflictException.class);
+
+        verify(repository, never()).delete(any(IdempotencyRecordJpaEntity.class));
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should retry and then propagate a failure to store the completed result")
+    void shouldPropagateFailureToStoreResult() {
+        when(repository.findById("key-7")).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.save(any(IdempotencyRecordJpaEntity.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        assertThatThrownBy(() -> store.execute("key-7", "DEPOSIT", request, () -> response))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(repository, times(3)).save(any(IdempotencyRecordJpaEntity.class));
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should release the key when the operation is rejected before changing balances")
+    void shouldReleaseKeyWhenActionIsRejected() {
+        when(repository.findById("key-5")).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThatThrownBy(() -> store.execute("key-5", "DEPOSIT", request, () -> {
+            throw new RuntimeException("Falha ao processar depósito",
+                    new TransactionRejectedException("Saldo insuficiente"));
+        })).isInstanceOf(RuntimeException.class);
+
+        verify(repository).deleteById("key-5");
+    }
+
+    @Test
+    @DisplayName("Should release the key when the account lane is busy")
+    void shouldReleaseKeyWhenLaneIsBusy() {
+        when(repository.findById("key-8")).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThatThrownBy(() -> store.execute("key-8", "DEPOSIT", request, () -> {
+            throw new AccountLaneBusyException("Muitas operações em andamento");
+        })).isInstanceOf(AccountLaneBusyException.class);
+
+        verify(repository).deleteById("key-8");
+    }
+
+    @Test
+    @DisplayName("Should keep the key when the action fails after the balance was changed")
+    void shouldKeepKeyWhenActionFailsAfterBalanceChange() {
+        AccountId accountId = new AccountId(request.targetAccountId());
+        when(repository.findById("key-9")).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(bankAccountService.applyDelta(accountId, new Money("100.00"), BankAccountServicePort.BalanceOperation.ADD))
+                .thenReturn(new BankAccountServicePort.BalanceChange(new Money("0.00"), new Money("100.00")));
+
+        assertThatThrownBy(() -> store.execute("key-9", "DEPOSIT", request, () -> {
+            bankAccountService.applyDelta(accountId, new Money("100.00"), BankAccountServicePort.BalanceOperation.ADD);
+            throw new IllegalArgumentException("Histórico de transação já existe para a transação");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        verify(repository, never()).deleteById(any());
+        ArgumentCaptor<IdempotencyRecordJpaEntity> saved = ArgumentCaptor.forClass(IdempotencyRecordJpaEntity.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(IdempotencyRecordJpaEntity.Status.FAILED);
+
+        when(repository.findById("key-9")).thenReturn(Optional.of(saved.getValue()));
+        assertThatThrownBy(() -> store.execute("key-9", "DEPOSIT", request, () -> {
+            throw new AssertionError("Action must not run again after a failure that may have been applied");
+        })).isInstanceOf(IdempotencyKeyConflictException.class);
+        verify(bankAccountService, times(1)).applyDelta(any(), any(), any());
+    }
+
+    private IdempotencyRecordJpaEntity captureCompletedRecord(String key) {
+        IdempotencyRecordJpaRepository recordingRepository = mock(IdempotencyRecordJpaRepository.class);
+        when(recordingRepository.findById(key)).thenReturn(Optional.empty());
+        when(recordingRepository.saveAndFlush(any(IdempotencyRecordJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        new IdempotencyStore(recordingRepository, objectMapper, Duration.ofHours(24), Duration.ofMinutes(1), 100)
+                .execute(key, "DEPOSIT", request, () -> response);
+
+        ArgumentCaptor<IdempotencyRecordJpaEntity> captor = ArgumentCaptor.forClass(IdempotencyRecordJpaEntity.class);
+        verify(recordingRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
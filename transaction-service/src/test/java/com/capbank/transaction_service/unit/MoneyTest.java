@@ -94,4 +94,44 @@ class MoneyTest {
         assertNotEquals(money1, money3);
         assertEquals(money1.hashCode(), money2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should throw exception when subtraction would be negative")
+    void shouldThrowExceptionWhenSubtractionIsNegative() {
+
+        Money money1 = new Money("10.00");
+        Money money2 = new Money("10.01");
+
+
+        assertThrows(IllegalArgumentException.class, () -> money1.subtract(money2));
+    }
+
+    @Test
+    @DisplayName("Should reject addition overflowing the cents range")
+    void shouldRejectAdditionOverflow() {
+
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+
+        assertThrows(IllegalArgumentException.class, () -> max.add(Money.ofCents(1)));
+    }
+
+    @Test
+    @DisplayName("Should reuse cached instances for small whole amounts")
+    void shouldReuseCachedInstances() {
+
+        assertSame(Money.of(new BigDecimal("100")), Money.ofCents(10_000));
+        assertSame(Money.ZERO, new Money("5.00").subtract(new Money("5.00")));
+        assertEquals(new Money("100.00"), Money.ofCents(10_000));
+    }
+
+    @Test
+    @DisplayName("Should format amount with two decimal places")
+    void shouldFormatWithTwoDecimalPlaces() {
+
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("12.30", new Money("12.3").toString());
+        assertEquals("1534.27", new Money("1534.27").toString());
+        assertEquals(1534_27L, new Money("1534.27").getCents());
+    }
+}
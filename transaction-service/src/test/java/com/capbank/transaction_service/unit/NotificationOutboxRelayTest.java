@@ -0,0 +1,149 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.infrastructure.adapter.out.notification.NotificationOutboxRelay;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.NotificationOutboxJpaEntity;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.NotificationOutboxJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Outbox Relay Tests")
+class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new NotificationOutboxRelay(
+                outboxRepository,
+                rabbitTemplate,
+                "notification.exchange",
+                "notification.routing.key",
+                100,
+                2,
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(3),
+                Duration.ofHours(72)
+        );
+    }
+
+    @Test
+    @DisplayName("Should mark batch as published after broker confirms")
+    void shouldMarkBatchAsPublished() {
+        NotificationOutboxJpaEntity entry = pendingEntry();
+        when(outboxRepository.lockNextPendingBatch(eq(100), any())).thenReturn(List.of(entry));
+        when(rabbitTemplate.invoke(any())).thenReturn(null);
+
+        relay.relay();
+
+        assertThat(entry.getStatus()).isEqualTo(NotificationOutboxJpaEntity.Status.PUBLISHED);
+        assertThat(entry.getPublishedAt()).isNotNull();
+        assertThat(entry.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep entries pending and mark as failed after max attempts")
+    void shouldRecordFailuresUntilMaxAttempts() {
+        NotificationOutboxJpaEntity entry = pendingEntry();
+        when(outboxRepository.lockNextPendingBatch(eq(100), any())).thenReturn(List.of(entry));
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpException("broker unavailable"));
+
+        relay.relay();
+
+        assertThat(entry.getStatus()).isEqualTo(NotificationOutboxJpaEntity.Status.PENDING);
+        assertThat(entry.getLastError()).contains("broker unavailable");
+
+        relay.relay();
+
+        assertThat(entry.getStatus()).isEqualTo(NotificationOutboxJpaEntity.Status.FAILED);
+        assertThat(entry.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially between attempts up to the max backoff")
+    void shouldBackOffBetweenAttempts() {
+        relay = new NotificationOutboxRelay(outboxRepository, rabbitTemplate, "notification.exchange",
+                "notification.routing.key", 100, 10, Duration.ofSeconds(5), Duration.ofSeconds(1),
+                Duration.ofSeconds(3), Duration.ofHours(72));
+        NotificationOutboxJpaEntity entry = pendingEntry();
+        when(outboxRepository.lockNextPendingBatch(eq(100), any())).thenReturn(List.of(entry));
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpException("broker unavailable"));
+
+        for (long expectedSeconds : new long[] {1, 2, 3, 3}) {
+            LocalDateTime before = LocalDateTime.now();
+            relay.relay();
+            assertThat(entry.getNextAttemptAt())
+                    .isAfterOrEqualTo(before.plusSeconds(expectedSeconds))
+                    .isBefore(before.plusSeconds(expectedSeconds + 1));
+        }
+        assertThat(entry.getStatus()).isEqualTo(NotificationOutboxJpaEntity.Status.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should not touch the broker when the outbox is empty")
+    void shouldSkipWhenOutboxIsEmpty() {
+        when(outboxRepository.lockNextPendingBatch(eq(100), any())).thenReturn(List.of());
+
+        relay.relay();
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("Should publish the trace context recorded with the entry")
+    void shouldPublishRecordedTraceParent() {
+        String traceParent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        NotificationOutboxJpaEntity entry = pendingEntry();
+        entry.setTraceParent(traceParent);
+        when(outboxRepository.lockNextPendingBatch(eq(100), any())).thenReturn(List.of(entry));
+
+        RabbitOperations operations = mock(RabbitOperations.class);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(operations));
+
+        relay.relay();
+
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(operations).send(eq("notification.exchange"), eq("notification.routing.key"), message.capture());
+        assertThat(message.getValue().getMessageProperties().getHeaders().get("traceparent")).isEqualTo(traceParent);
+    }
+
+    private NotificationOutboxJpaEntity pendingEntry() {
+        return new NotificationOutboxJpaEntity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "{\"userId\":\"550e8400-e29b-41d4-a716-446655440000\"}",
+                NotificationOutboxJpaEntity.Status.PENDING,
+                0,
+                null,
+                LocalDateTime.now(),
+                null
+        );
+    }
+}
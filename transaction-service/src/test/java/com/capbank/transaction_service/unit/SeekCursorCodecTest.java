@@ -0,0 +1,44 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
+import com.capbank.transaction_service.infrastructure.mapper.SeekCursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Seek Cursor Codec Tests")
+class SeekCursorCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip cursor through opaque token")
+    void shouldRoundTripCursor() {
+        SeekCursor cursor = new SeekCursor(
+                LocalDateTime.of(2024, 1, 15, 10, 30, 45, 123456000),
+                UUID.fromString("550e8400-e29b-41d4-a716-446655440001"));
+
+        String token = SeekCursorCodec.encode(cursor);
+
+        assertThat(token).doesNotContain("550e8400").doesNotContain("=");
+        assertThat(SeekCursorCodec.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should treat empty token as first page")
+    void shouldTreatEmptyTokenAsFirstPage() {
+        assertThat(SeekCursorCodec.decode(null)).isNull();
+        assertThat(SeekCursorCodec.decode("")).isNull();
+        assertThat(SeekCursorCodec.encode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject tampered token")
+    void shouldRejectTamperedToken() {
+        assertThatThrownBy(() -> SeekCursorCodec.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido");
+    }
+}
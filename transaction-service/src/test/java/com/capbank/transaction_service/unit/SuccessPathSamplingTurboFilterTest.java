@@ -0,0 +1,88 @@
+package com.capbank.transaction_service.unit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.capbank.transaction_service.infrastructure.logging.SuccessPathSamplingTurboFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Success Path Sampling Turbo Filter Tests")
+class SuccessPathSamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger appLogger = loggerContext.getLogger("com.capbank.transaction_service.core.application.service.TransactionService");
+    private final Logger frameworkLogger = loggerContext.getLogger("org.springframework.web");
+
+    private SuccessPathSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SuccessPathSamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggerPrefix("com.capbank.transaction_service");
+        filter.setSuccessRate(0.0);
+        filter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should drop INFO lines of an unsampled request")
+    void shouldDropInfoOfUnsampledRequest() {
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        assertThat(decide(appLogger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("Should always keep warnings and errors")
+    void shouldKeepWarningsAndErrors() {
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        assertThat(decide(appLogger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(appLogger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should not sample lines outside a request or from other loggers")
+    void shouldIgnoreLinesWithoutKeyOrOutsidePrefix() {
+        assertThat(decide(appLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+
+        MDC.put("requestId", "req-1");
+        assertThat(decide(frameworkLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should make the same decision for every line of a request")
+    void shouldDecideConsistentlyPerRequest() {
+        filter.stop();
+        filter.setSuccessRate(0.5);
+        filter.start();
+
+        int kept = 0;
+        for (int i = 0; i < 1_000; i++) {
+            MDC.put("requestId", "req-" + i);
+            FilterReply first = decide(appLogger, Level.INFO);
+            assertThat(decide(appLogger, Level.DEBUG)).isEqualTo(first);
+            if (first == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        assertThat(kept).isBetween(350, 650);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{"arg"}, null);
+    }
+}
@@ -0,0 +1,131 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.core.domain.valueobject.TransactionId;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.AccountBalanceSnapshotJpaRepository;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.AccountBalanceSnapshotWriter;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionHistoryExportReader;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionHistoryKeyWriter;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionHistoryPersistenceMapper;
+import com.capbank.transaction_service.infrastructure.adapter.out.persistence.TransactionHistoryRepositoryAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({
+        TransactionHistoryRepositoryAdapter.class,
+        TransactionHistoryPersistenceMapper.class,
+        AccountBalanceSnapshotWriter.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Transaction History Batching Tests")
+class TransactionHistoryBatchingTest {
+
+    private static final AccountId ACCOUNT = new AccountId("550e8400-e29b-41d4-a716-446655440000");
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Autowired
+    private TransactionHistoryRepositoryAdapter adapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private AccountBalanceSnapshotJpaRepository snapshotRepository;
+
+    @MockBean
+    private TransactionHistoryKeyWriter keyWriter;
+
+    @MockBean
+    private TransactionHistoryExportReader exportReader;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(keyWriter.claim(any(), any())).thenReturn(true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert the histories of a transaction in a single JDBC batch")
+    void shouldBatchHistoryInsertsInOneTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adapter.save(deposit("100.00", "50.00", DATE));
+            adapter.save(deposit("150.00", "25.00", DATE.plusSeconds(1)));
+            adapter.save(deposit("175.00", "10.00", DATE.plusSeconds(2)));
+
+            verifyNoInteractions(snapshotRepository);
+        });
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(snapshotRepository).upsert(eq(ACCOUNT.getValue()), eq(new BigDecimal("185.00")),
+                any(), eq(DATE.plusSeconds(2)), any(), eq(new BigDecimal("175.00")),
+                eq(new BigDecimal("10.00")), eq("DEPOSIT"), eq("SUCCESS"), eq("Depósito"));
+        verifyNoMoreInteractions(snapshotRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the history saved earlier in the same transaction before the snapshot is written")
+    void shouldReadPendingHistoryBeforeCommit() {
+        when(snapshotRepository.findById(ACCOUNT.getValue())).thenReturn(Optional.empty());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adapter.save(deposit("100.00", "50.00", DATE));
+
+            assertThat(adapter.findLatestByAccountId(ACCOUNT))
+                    .map(TransactionHistory::getBalanceAfter)
+                    .contains(new Money("150.00"));
+        });
+    }
+
+    private static TransactionHistory deposit(String balanceBefore, String amount, LocalDateTime recordDate) {
+        return new TransactionHistory.Builder()
+                .accountId(ACCOUNT)
+                .transactionId(TransactionId.generate())
+                .balanceBefore(new Money(balanceBefore))
+                .balanceAfter(new Money(balanceBefore).add(new Money(amount)))
+                .transactionAmount(new Money(amount))
+                .transactionType(TransactionType.DEPOSIT)
+                .status(TransactionStatus.SUCCESS)
+                .description("Depósito")
+                .recordDate(recordDate)
+                .build();
+    }
+}
@@ -1,8 +1,11 @@
 package com.capbank.transaction_service.unit;
 
 import com.capbank.transaction_service.core.application.port.in.CreateTransactionHistoryUseCase.CreateTransactionHistoryCommand;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.ExportTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.FindTransactionHistoryQuery;
 import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistoryPage;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionHistoryUseCase.TransactionHistorySlice;
+import com.capbank.transaction_service.core.application.port.in.SeekCursor;
 import com.capbank.transaction_service.core.application.port.out.TransactionHistoryRepositoryPort;
 import com.capbank.transaction_service.core.application.service.TransactionHistoryService;
 import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
@@ -17,12 +20,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -58,7 +65,6 @@ class TransactionHistoryServiceTest {
         TransactionHistory expectedHistory = TransactionHistory.createDepositHistory(
                 accountId, transactionId, balanceBefore, amount, "Test deposit");
 
-        when(repositoryPort.existsByTransactionId(transactionId.getValue())).thenReturn(false);
         when(repositoryPort.save(any(TransactionHistory.class))).thenReturn(expectedHistory);
 
         
@@ -69,7 +75,6 @@ class TransactionHistoryServiceTest {
         assertEquals(expectedHistory.getAccountId(), result.getAccountId());
         assertEquals(expectedHistory.getTransactionId(), result.getTransactionId());
         assertEquals(TransactionType.DEPOSIT, result.getTransactionType());
-        verify(repositoryPort).existsByTransactionId(transactionId.getValue());
         verify(repositoryPort).save(any(TransactionHistory.class));
     }
 
@@ -85,15 +90,15 @@ class TransactionHistoryServiceTest {
         CreateTransactionHistoryCommand command = new CreateTransactionHistoryCommand(
                 accountId, transactionId, balanceBefore, amount, TransactionType.DEPOSIT, "Test deposit");
 
-        when(repositoryPort.existsByTransactionId(transactionId.getValue())).thenReturn(true);
+        when(repositoryPort.save(any(TransactionHistory.class))).thenThrow(new IllegalArgumentException(
+                "Histórico de transação já existe para a transação: " + transactionId));
 
        
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> service.createTransactionHistory(command));
 
         assertTrue(exception.getMessage().contains("Histórico de transação já existe"));
-        verify(repositoryPort).existsByTransactionId(transactionId.getValue());
-        verify(repositoryPort, never()).save(any(TransactionHistory.class));
+        verify(repositoryPort).save(any(TransactionHistory.class));
     }
 
     @Test
@@ -164,6 +169,38 @@ class TransactionHistoryServiceTest {
         verify(repositoryPort, never()).findByAccountIdWithFilters(any());
     }
 
+    @Test
+    @DisplayName("Should find transaction history after cursor")
+    void shouldFindTransactionHistoryAfterCursor() {
+
+        AccountId accountId = AccountId.generate();
+        FindTransactionHistoryQuery query = FindTransactionHistoryQuery.create(accountId, 0, 20);
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2024, 1, 15, 10, 30), UUID.randomUUID());
+        TransactionHistorySlice expectedSlice = new TransactionHistorySlice(List.of(), 20, false, null);
+
+        when(repositoryPort.findByAccountIdWithFiltersAfter(query, cursor)).thenReturn(expectedSlice);
+
+
+        TransactionHistorySlice result = service.findByAccountIdAfter(query, cursor);
+
+
+        assertSame(expectedSlice, result);
+        verify(repositoryPort, never()).findByAccountIdWithFilters(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for large page size when paginating by cursor")
+    void shouldThrowExceptionForLargePageSizeWithCursor() {
+
+        AccountId accountId = AccountId.generate();
+        FindTransactionHistoryQuery query = new FindTransactionHistoryQuery(
+                accountId, null, null, null, 0, 150, "recordDate", "DESC");
+
+
+        assertThrows(IllegalArgumentException.class, () -> service.findByAccountIdAfter(query, null));
+        verify(repositoryPort, never()).findByAccountIdWithFiltersAfter(any(), any());
+    }
+
     @Test
     @DisplayName("Should throw exception when finding by null ID")
     void shouldThrowExceptionWhenFindingByNullId() {
@@ -174,4 +211,41 @@ class TransactionHistoryServiceTest {
         assertEquals("ID não pode ser nulo", exception.getMessage());
         verify(repositoryPort, never()).findById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should stream exported history to the consumer one record at a time")
+    void shouldStreamExportToConsumer() {
+
+        AccountId accountId = AccountId.generate();
+        ExportTransactionHistoryQuery query = new ExportTransactionHistoryQuery(accountId, null, null);
+        TransactionHistory first = TransactionHistory.createDepositHistory(
+                accountId, TransactionId.generate(), new Money("0.00"), new Money("100.00"), "Deposit");
+        TransactionHistory second = TransactionHistory.createWithdrawalHistory(
+                accountId, TransactionId.generate(), new Money("100.00"), new Money("30.00"), "Withdrawal");
+
+        doAnswer(invocation -> {
+            Consumer<TransactionHistory> consumer = invocation.getArgument(1);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(repositoryPort).streamByAccountId(eq(query), any());
+
+        List<TransactionHistory> exported = new ArrayList<>();
+        service.exportByAccountId(query, exported::add);
+
+
+        assertEquals(List.of(first, second), exported);
+    }
+
+    @Test
+    @DisplayName("Should reject export period with start after end")
+    void shouldRejectExportWithInvertedPeriod() {
+
+        LocalDateTime start = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExportTransactionHistoryQuery(AccountId.generate(), start, end));
+    }
+}
@@ -87,6 +87,22 @@ class TransactionHistoryTest {
         assertEquals(TransactionType.TRANSFER, history.getTransactionType());
     }
 
+    @Test
+    @DisplayName("Should create incoming transfer history crediting the target account")
+    void shouldCreateIncomingTransferHistoryWithCorrectBalance() {
+
+        AccountId accountId = AccountId.generate();
+        TransactionId transactionId = TransactionId.generate();
+        Money balanceBefore = new Money("150.00");
+        Money transferAmount = new Money("800.00");
+
+        TransactionHistory history = TransactionHistory.createIncomingTransferHistory(
+                accountId, transactionId, balanceBefore, transferAmount, "Transfer from checking");
+
+        assertEquals(new Money("950.00"), history.getBalanceAfter());
+        assertEquals(TransactionType.TRANSFER, history.getTransactionType());
+    }
+
     @Test
     @DisplayName("Should throw exception when building with null required fields")
     void shouldThrowExceptionWhenBuildingWithNullRequiredFields() {
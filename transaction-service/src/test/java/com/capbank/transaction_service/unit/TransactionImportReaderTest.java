@@ -0,0 +1,76 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.application.port.in.ImportTransactionsUseCase.ImportRow;
+import com.capbank.transaction_service.infrastructure.mapper.TransactionImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Transaction Import Reader Tests")
+class TransactionImportReaderTest {
+
+    @Test
+    @DisplayName("Should read CSV columns by header name with quoted fields")
+    void shouldReadCsvByHeader() {
+        String csv = """
+                amount,transaction_type,target_account_id,description
+                100.50,DEPOSIT,550e8400-e29b-41d4-a716-446655440001,"Salário, março ""bônus""\"
+
+                20,WITHDRAWAL,,
+                """;
+
+        List<ImportRow> rows = readAll(TransactionImportReader.csv(reader(csv)));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).lineNumber()).isEqualTo(2);
+        assertThat(rows.get(0).amount()).isEqualTo("100.50");
+        assertThat(rows.get(0).description()).isEqualTo("Salário, março \"bônus\"");
+        assertThat(rows.get(0).sourceAccountId()).isNull();
+        assertThat(rows.get(1).lineNumber()).isEqualTo(4);
+        assertThat(rows.get(1).transactionType()).isEqualTo("WITHDRAWAL");
+    }
+
+    @Test
+    @DisplayName("Should reject CSV header without required columns")
+    void shouldRejectCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> TransactionImportReader.csv(reader("description,target_account_id\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should flag malformed NDJSON lines without stopping")
+    void shouldFlagMalformedNdjsonLines() {
+        String ndjson = """
+                {"transaction_type":"DEPOSIT","target_account_id":"550e8400-e29b-41d4-a716-446655440001","amount":10.00}
+                {"transaction_type":
+                {"transaction_type":"WITHDRAWAL","source_account_id":"550e8400-e29b-41d4-a716-446655440000","amount":"5"}
+                """;
+
+        List<ImportRow> rows = readAll(TransactionImportReader.ndjson(reader(ndjson), new ObjectMapper()));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).amount()).isEqualTo("10.00");
+        assertThat(rows.get(0).error()).isNull();
+        assertThat(rows.get(1).error()).startsWith("JSON inválido");
+        assertThat(rows.get(2).lineNumber()).isEqualTo(3);
+        assertThat(rows.get(2).transactionType()).isEqualTo("WITHDRAWAL");
+    }
+
+    private static BufferedReader reader(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+
+    private static List<ImportRow> readAll(Iterator<ImportRow> iterator) {
+        List<ImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,115 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.application.port.in.ImportTransactionsUseCase.ImportResult;
+import com.capbank.transaction_service.core.application.port.in.ImportTransactionsUseCase.ImportRow;
+import com.capbank.transaction_service.core.application.port.out.TransactionRepositoryPort;
+import com.capbank.transaction_service.core.application.service.TransactionImportService;
+import com.capbank.transaction_service.core.domain.entity.Transaction;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Transaction Import Service Tests")
+class TransactionImportServiceTest {
+
+    private static final String SOURCE = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String TARGET = "550e8400-e29b-41d4-a716-446655440001";
+
+    @Mock
+    private TransactionRepositoryPort transactionRepository;
+
+    private TransactionImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TransactionImportService(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should import valid rows and report invalid ones by line")
+    void shouldImportValidRowsAndReportInvalidOnes() {
+        when(transactionRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> (long) invocation.<List<?>>getArgument(0).size());
+
+        List<ImportRow> rows = List.of(
+                row(2, "DEPOSIT", null, TARGET, "100.00", null),
+                row(3, "WITHDRAWAL", SOURCE, null, "-5", null),
+                row(4, "TRANSFER", SOURCE, TARGET, "50.25", null),
+                row(5, "REFUND", SOURCE, null, "10", null),
+                ImportRow.malformed(6, "JSON inválido: Unexpected end-of-input")
+        );
+
+        ImportResult result = importService.importTransactions(rows.iterator());
+
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.importedRows()).isEqualTo(2);
+        assertThat(result.rejectedRows()).isEqualTo(3);
+        assertThat(result.errors())
+                .extracting(error -> error.lineNumber())
+                .containsExactly(3L, 5L, 6L);
+        assertThat(result.errors().get(0).message()).isEqualTo("Valor deve ser positivo");
+        assertThat(result.errors().get(1).message()).contains("Tipo de transação inválido");
+        verify(transactionRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep the original date of legacy transactions")
+    void shouldKeepLegacyTransactionDate() {
+        when(transactionRepository.insertAll(anyList())).thenReturn(1L);
+
+        importService.importTransactions(List.of(
+                row(1, "deposit", null, TARGET, "10.00", "2021-03-15T10:30:00")).iterator());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).insertAll(captor.capture());
+        Transaction imported = captor.getValue().get(0);
+        assertThat(imported.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(imported.getTransactionDate()).isEqualTo(LocalDateTime.of(2021, 3, 15, 10, 30));
+    }
+
+    @Test
+    @DisplayName("Should reject deposit rows carrying a source account")
+    void shouldRejectDepositWithSourceAccount() {
+        ImportResult result = importService.importTransactions(List.of(
+                row(1, "DEPOSIT", SOURCE, TARGET, "10.00", null)).iterator());
+
+        assertThat(result.importedRows()).isZero();
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> assertThat(error.message()).contains("Conta de origem deve ser nula"));
+        verify(transactionRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report every row of a chunk that failed to be written")
+    void shouldReportRowsOfFailedChunk() {
+        when(transactionRepository.insertAll(anyList())).thenThrow(new IllegalStateException("connection reset"));
+
+        ImportResult result = importService.importTransactions(List.of(
+                row(1, "DEPOSIT", null, TARGET, "10.00", null),
+                row(2, "WITHDRAWAL", SOURCE, null, "5.00", null)).iterator());
+
+        assertThat(result.importedRows()).isZero();
+        assertThat(result.rejectedRows()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(error -> error.message())
+                .allMatch(message -> message.startsWith("Falha ao gravar lote"));
+    }
+
+    private static ImportRow row(long line, String type, String source, String target, String amount, String date) {
+        return new ImportRow(line, type, source, target, amount, "Legacy", date, null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.capbank.transaction_service.unit;
 
+import com.capbank.transaction_service.core.application.port.in.CreateTransactionUseCase;
 import com.capbank.transaction_service.core.application.port.in.DepositUseCase;
 import com.capbank.transaction_service.core.application.port.in.WithdrawalUseCase;
 import com.capbank.transaction_service.core.application.port.in.TransferUseCase;
@@ -13,18 +14,27 @@ import com.capbank.transaction_service.core.domain.entity.TransactionHistory;
 import com.capbank.transaction_service.core.domain.enums.TransactionType;
 import com.capbank.transaction_service.core.domain.valueobject.AccountId;
 import com.capbank.transaction_service.core.domain.valueobject.Money;
+import com.capbank.transaction_service.infrastructure.observability.ObservationTransactionStageObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,17 +55,24 @@ class TransactionServiceTest {
 
     private TransactionService transactionService;
 
+    private MeterRegistry meterRegistry;
+
     private AccountId sourceAccountId;
     private AccountId targetAccountId;
     private Money amount;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
         transactionService = new TransactionService(
                 transactionRepository,
                 historyRepository,
                 notificationService,
-                bankAccountService
+                bankAccountService,
+                new ObservationTransactionStageObserver(observationRegistry)
         );
 
         sourceAccountId = new AccountId("550e8400-e29b-41d4-a716-446655440000");
@@ -75,7 +92,8 @@ class TransactionServiceTest {
 
         Transaction savedTransaction = Transaction.createDeposit(targetAccountId, amount, "Test deposit");
         when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
-        when(historyRepository.findLatestByAccountId(any())).thenReturn(Optional.empty());
+        when(bankAccountService.applyDelta(targetAccountId, amount, BankAccountServicePort.BalanceOperation.ADD))
+                .thenReturn(new BankAccountServicePort.BalanceChange(new Money("50.00"), new Money("150.00")));
         when(historyRepository.save(any(TransactionHistory.class))).thenReturn(mock(TransactionHistory.class));
         when(notificationService.sendTransactionNotification(any())).thenReturn(true);
 
@@ -95,6 +113,25 @@ class TransactionServiceTest {
         verify(notificationService).sendTransactionNotification(any());
     }
 
+    @Test
+    @DisplayName("Should record a generic transaction without moving balances")
+    void shouldRecordGenericTransactionWithoutMovingBalances() {
+        CreateTransactionUseCase.CreateTransactionCommand command = new CreateTransactionUseCase.CreateTransactionCommand(
+                null, targetAccountId, TransactionType.DEPOSIT, amount, "Legacy deposit");
+
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(historyRepository.findLatestByAccountId(targetAccountId)).thenReturn(Optional.empty());
+        when(historyRepository.save(any(TransactionHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(notificationService.sendTransactionNotification(any())).thenReturn(true);
+
+        CreateTransactionUseCase.TransactionResult result = transactionService.processTransaction(command);
+
+        assertThat(result.transaction().getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(result.message()).contains("Transação processada com sucesso");
+        verify(historyRepository).save(any(TransactionHistory.class));
+        verifyNoInteractions(bankAccountService);
+    }
+
     @Test
     @DisplayName("Should process withdrawal successfully")
     void shouldProcessWithdrawalSuccessfully() {
@@ -107,9 +144,8 @@ class TransactionServiceTest {
 
         Transaction savedTransaction = Transaction.createWithdrawal(sourceAccountId, amount, "Test withdrawal");
         when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
-        when(historyRepository.findLatestByAccountId(any())).thenReturn(Optional.of(
-                mock(TransactionHistory.class)
-        ));
+        when(bankAccountService.applyDelta(sourceAccountId, amount, BankAccountServicePort.BalanceOperation.SUBTRACT))
+                .thenReturn(new BankAccountServicePort.BalanceChange(new Money("300.00"), new Money("200.00")));
         when(historyRepository.save(any(TransactionHistory.class))).thenReturn(mock(TransactionHistory.class));
         when(notificationService.sendTransactionNotification(any())).thenReturn(true);
 
@@ -145,7 +181,10 @@ class TransactionServiceTest {
                 sourceAccountId, targetAccountId, amount, "Test transfer"
         );
         when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
-        when(historyRepository.findLatestByAccountId(any())).thenReturn(Optional.empty());
+        when(bankAccountService.applyDeltas(anyList())).thenReturn(List.of(
+                new BankAccountServicePort.BalanceChange(new Money("300.00"), new Money("200.00")),
+                new BankAccountServicePort.BalanceChange(new Money("0.00"), new Money("100.00"))
+        ));
         when(historyRepository.save(any(TransactionHistory.class))).thenReturn(mock(TransactionHistory.class));
         when(notificationService.sendTransactionNotification(any())).thenReturn(true);
 
@@ -163,10 +202,43 @@ class TransactionServiceTest {
         assertThat(result.message()).contains("Transferência processada com sucesso");
 
         verify(transactionRepository).save(any(Transaction.class));
-        verify(historyRepository).save(any(TransactionHistory.class));
+        ArgumentCaptor<TransactionHistory> historyCaptor = ArgumentCaptor.forClass(TransactionHistory.class);
+        verify(historyRepository, times(2)).save(historyCaptor.capture());
+        assertThat(historyCaptor.getAllValues())
+                .extracting(TransactionHistory::getAccountId, TransactionHistory::getBalanceBefore,
+                        TransactionHistory::getBalanceAfter)
+                .containsExactly(
+                        tuple(sourceAccountId, new Money("300.00"), new Money("200.00")),
+                        tuple(targetAccountId, new Money("0.00"), new Money("100.00")));
         verify(notificationService).sendTransactionNotification(any());
     }
 
+    @Test
+    @DisplayName("Should build history from balances returned by the balance mutation")
+    void shouldBuildHistoryFromReturnedBalances() {
+        WithdrawalUseCase.WithdrawalCommand command = new WithdrawalUseCase.WithdrawalCommand(
+                sourceAccountId,
+                amount,
+                "Test withdrawal"
+        );
+
+        Transaction savedTransaction = Transaction.createWithdrawal(sourceAccountId, amount, "Test withdrawal");
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
+        when(bankAccountService.applyDelta(sourceAccountId, amount, BankAccountServicePort.BalanceOperation.SUBTRACT))
+                .thenReturn(new BankAccountServicePort.BalanceChange(new Money("300.00"), new Money("200.00")));
+        when(historyRepository.save(any(TransactionHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(notificationService.sendTransactionNotification(any())).thenReturn(true);
+
+        transactionService.processWithdrawal(command);
+
+        ArgumentCaptor<TransactionHistory> historyCaptor = ArgumentCaptor.forClass(TransactionHistory.class);
+        verify(historyRepository).save(historyCaptor.capture());
+        assertThat(historyCaptor.getValue().getBalanceBefore()).isEqualTo(new Money("300.00"));
+        assertThat(historyCaptor.getValue().getBalanceAfter()).isEqualTo(new Money("200.00"));
+        assertThat(historyCaptor.getValue().getTransactionId()).isEqualTo(savedTransaction.getId());
+        verify(historyRepository, never()).findLatestByAccountId(any());
+    }
+
     @Test
     @DisplayName("Should handle notification failure gracefully in deposit")
     void shouldHandleNotificationFailureGracefullyInDeposit() {
@@ -179,7 +251,8 @@ class TransactionServiceTest {
 
         Transaction savedTransaction = Transaction.createDeposit(targetAccountId, amount, "Test deposit");
         when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
-        when(historyRepository.findLatestByAccountId(any())).thenReturn(Optional.empty());
+        when(bankAccountService.applyDelta(targetAccountId, amount, BankAccountServicePort.BalanceOperation.ADD))
+                .thenReturn(new BankAccountServicePort.BalanceChange(new Money("0.00"), new Money("100.00")));
         when(historyRepository.save(any(TransactionHistory.class))).thenReturn(mock(TransactionHistory.class));
         when(notificationService.sendTransactionNotification(any())).thenReturn(false);
 
@@ -234,4 +307,65 @@ class TransactionServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Source and target accounts cannot be the same");
     }
+
+    @Test
+    @DisplayName("Should record a stage timer for each step of a deposit")
+    void shouldRecordStageTimersForDeposit() {
+        DepositUseCase.DepositCommand command = new DepositUseCase.DepositCommand(
+                targetAccountId,
+                amount,
+                "Test deposit"
+        );
+
+        Transaction savedTransaction = Transaction.createDeposit(targetAccountId, amount, "Test deposit");
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
+        when(bankAccountService.applyDelta(targetAccountId, amount, BankAccountServicePort.BalanceOperation.ADD))
+                .thenReturn(new BankAccountServicePort.BalanceChange(new Money("0.00"), new Money("100.00")));
+        when(historyRepository.save(any(TransactionHistory.class))).thenReturn(mock(TransactionHistory.class));
+        when(notificationService.sendTransactionNotification(any())).thenReturn(true);
+
+        transactionService.processDeposit(command);
+
+        for (String stage : List.of("pipeline", "save", "balance_update", "history", "notification")) {
+            assertThat(stageTimer("DEPOSIT", stage, "success").count())
+                    .as("timer for stage %s", stage)
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should tag the failing stage as rejected when the transfer is refused")
+    void shouldTagRejectedTransferStages() {
+        TransferUseCase.TransferCommand command = new TransferUseCase.TransferCommand(
+                sourceAccountId,
+                targetAccountId,
+                amount,
+                "Test transfer"
+        );
+
+        Transaction savedTransaction = Transaction.createTransfer(
+                sourceAccountId, targetAccountId, amount, "Test transfer"
+        );
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTransaction);
+        when(bankAccountService.applyDeltas(anyList()))
+                .thenThrow(new IllegalArgumentException("Saldo insuficiente para concluir a operação"));
+
+        assertThatThrownBy(() -> transactionService.processTransfer(command))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(stageTimer("TRANSFER", "save", "success").count()).isEqualTo(1);
+        assertThat(stageTimer("TRANSFER", "balance_update", "rejected").count()).isEqualTo(1);
+        assertThat(stageTimer("TRANSFER", "pipeline", "rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.find(ObservationTransactionStageObserver.OBSERVATION_NAME)
+                .tag("stage", "history").timer()).isNull();
+        verify(historyRepository, never()).save(any());
+    }
+
+    private Timer stageTimer(String type, String stage, String outcome) {
+        return meterRegistry.get(ObservationTransactionStageObserver.OBSERVATION_NAME)
+                .tag("type", type)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer();
+    }
 }
@@ -0,0 +1,84 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.SummaryBucket;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.TransactionSummary;
+import com.capbank.transaction_service.core.application.port.in.FindTransactionSummaryUseCase.TransactionSummaryQuery;
+import com.capbank.transaction_service.core.application.port.out.TransactionSummaryRepositoryPort;
+import com.capbank.transaction_service.core.application.service.TransactionSummaryService;
+import com.capbank.transaction_service.core.domain.enums.SummaryGranularity;
+import com.capbank.transaction_service.core.domain.enums.TransactionDirection;
+import com.capbank.transaction_service.core.domain.enums.TransactionStatus;
+import com.capbank.transaction_service.core.domain.enums.TransactionType;
+import com.capbank.transaction_service.core.domain.valueobject.AccountId;
+import com.capbank.transaction_service.core.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Transaction Summary Service Tests")
+class TransactionSummaryServiceTest {
+
+    @Mock
+    private TransactionSummaryRepositoryPort summaryRepository;
+
+    private TransactionSummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new TransactionSummaryService(summaryRepository);
+    }
+
+    @Test
+    @DisplayName("Should read monthly aggregates from the first day of each month in the range")
+    void shouldAlignMonthlyRangeToPeriodStarts() {
+        AccountId accountId = AccountId.generate();
+        SummaryBucket bucket = new SummaryBucket(LocalDate.of(2024, 3, 1), TransactionDirection.OUTGOING,
+                TransactionType.WITHDRAWAL, TransactionStatus.SUCCESS, 4, new Money("120.00"));
+        when(summaryRepository.findBuckets(accountId, SummaryGranularity.MONTH,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1))).thenReturn(List.of(bucket));
+
+        TransactionSummary summary = summaryService.summarize(new TransactionSummaryQuery(
+                accountId, SummaryGranularity.MONTH, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 10)));
+
+        assertThat(summary.buckets()).containsExactly(bucket);
+        assertThat(summary.startDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(summary.endDate()).isEqualTo(LocalDate.of(2024, 3, 10));
+    }
+
+    @Test
+    @DisplayName("Should default to the last 30 days for daily summaries")
+    void shouldDefaultToLastThirtyDays() {
+        AccountId accountId = AccountId.generate();
+        LocalDate today = LocalDate.now();
+        when(summaryRepository.findBuckets(accountId, SummaryGranularity.DAY, today.minusDays(29), today))
+                .thenReturn(List.of());
+
+        TransactionSummary summary = summaryService.summarize(
+                new TransactionSummaryQuery(accountId, SummaryGranularity.DAY, null, null));
+
+        assertThat(summary.buckets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject daily summaries longer than a year")
+    void shouldRejectTooLongDailyRange() {
+        TransactionSummaryQuery query = new TransactionSummaryQuery(AccountId.generate(), SummaryGranularity.DAY,
+                LocalDate.of(2023, 1, 1), LocalDate.of(2024, 6, 30));
+
+        assertThatThrownBy(() -> summaryService.summarize(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("366 dias");
+        verify(summaryRepository, never()).findBuckets(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,52 @@
+package com.capbank.transaction_service.unit;
+
+import com.capbank.transaction_service.core.domain.valueobject.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o gerador de UUID versão 7
+ */
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should set version 7 and IETF variant")
+    void shouldSetVersionAndVariant() {
+
+        UUID uuid = UuidV7.randomUuid();
+
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Should encode current time in the most significant 48 bits")
+    void shouldEncodeCurrentTime() {
+
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+        long after = System.currentTimeMillis();
+
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    @DisplayName("Should order ids generated in later milliseconds after earlier ones")
+    void shouldOrderByGenerationTime() throws InterruptedException {
+
+        UUID first = UuidV7.randomUuid();
+        Thread.sleep(2);
+        UUID second = UuidV7.randomUuid();
+
+
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+    }
+}